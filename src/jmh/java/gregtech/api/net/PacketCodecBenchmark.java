@@ -0,0 +1,52 @@
+package gregtech.api.net;
+
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.PacketBuffer;
+import net.minecraftforge.fml.common.network.internal.FMLProxyPacket;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures encoding and decoding of widget update packet, which is sent to every player with open GUI every tick.
+ * Run with allocation profiler (gradle jmh does so) to see allocations per packet in gc.alloc.rate.norm.
+ * Encoding is expected to allocate outgoing payload of exact size and proxy packet only,
+ * and decoding is expected to allocate packet and payload slice without copying payload bytes
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PacketCodecBenchmark {
+
+    @Param({"64", "4096"})
+    public int payloadSize;
+
+    private PacketUIWidgetUpdate packet;
+    private FMLProxyPacket encodedPacket;
+
+    @Setup
+    public void setup() {
+        NetworkHandler.registerPackets();
+        this.packet = new PacketUIWidgetUpdate(1, new PacketBuffer(Unpooled.wrappedBuffer(new byte[payloadSize])));
+        this.encodedPacket = NetworkHandler.packet2proxy(packet);
+    }
+
+    @Benchmark
+    public FMLProxyPacket encode() {
+        return NetworkHandler.packet2proxy(packet);
+    }
+
+    @Benchmark
+    public PacketUIWidgetUpdate decode() {
+        //received payload is read once, so rewind it before every decode
+        encodedPacket.payload().readerIndex(0);
+        PacketUIWidgetUpdate decodedPacket = (PacketUIWidgetUpdate) NetworkHandler.proxy2packet(encodedPacket);
+        //release payload slice like packet executor does
+        decodedPacket.updateData.release();
+        return decodedPacket;
+    }
+
+}
@@ -0,0 +1,115 @@
+package gregtech.api.recipes;
+
+import gnu.trove.map.hash.TObjectIntHashMap;
+import gregtech.api.capability.impl.FluidTankList;
+import gregtech.api.util.GTUtility;
+import net.minecraft.init.Bootstrap;
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.FluidRegistry;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fluids.FluidTank;
+import net.minecraftforge.items.ItemStackHandler;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares matching recipe directly against machine handlers with matching against list views of these handlers,
+ * and with baseline reproducing how handlers were matched before: list views of handlers and amount arrays
+ * allocated for every match.
+ * Run with allocation profiler (gradle jmh does so) to see allocations per match in gc.alloc.rate.norm
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecipeMatchBenchmark {
+
+    private Recipe recipe;
+    private ItemStackHandler importItems;
+    private FluidTankList importFluids;
+
+    @Setup
+    public void setup() {
+        Bootstrap.register();
+        this.recipe = new Recipe(
+            Arrays.asList(CountableIngredient.from(new ItemStack(Items.IRON_INGOT), 3), CountableIngredient.from(new ItemStack(Items.REDSTONE), 2)),
+            Collections.singletonList(new ItemStack(Items.GOLD_INGOT)), new TObjectIntHashMap<>(),
+            Collections.singletonList(new FluidStack(FluidRegistry.WATER, 1000)), Collections.emptyList(),
+            Collections.emptyMap(), 100, 32, false, true, false);
+        this.importItems = new ItemStackHandler(9);
+        importItems.setStackInSlot(2, new ItemStack(Items.REDSTONE, 64));
+        importItems.setStackInSlot(7, new ItemStack(Items.IRON_INGOT, 64));
+        this.importFluids = new FluidTankList(new FluidTank(16000), new FluidTank(new FluidStack(FluidRegistry.WATER, 16000), 16000));
+    }
+
+    @Benchmark
+    public boolean matchHandlers() {
+        return recipe.matches(false, false, importItems, importFluids);
+    }
+
+    @Benchmark
+    public boolean matchHandlerListViews() {
+        return recipe.matches(false, false, GTUtility.itemHandlerToList(importItems), GTUtility.fluidHandlerToList(importFluids));
+    }
+
+    @Benchmark
+    public boolean matchBaseline() {
+        return matchesBaseline(recipe, GTUtility.itemHandlerToList(importItems), GTUtility.fluidHandlerToList(importFluids));
+    }
+
+    /**
+     * Matching implementation Recipe used before matching became allocation free, without consuming inputs
+     */
+    private static boolean matchesBaseline(Recipe recipe, List<ItemStack> inputs, List<FluidStack> fluidInputs) {
+        int[] fluidAmountInTank = new int[fluidInputs.size()];
+        int[] itemAmountInSlot = new int[inputs.size()];
+
+        for(int i = 0; i < fluidAmountInTank.length; i++) {
+            FluidStack fluidInTank = fluidInputs.get(i);
+            fluidAmountInTank[i] = fluidInTank == null ? 0 : fluidInTank.amount;
+        }
+        for(int i = 0; i < itemAmountInSlot.length; i++) {
+            ItemStack itemInSlot = inputs.get(i);
+            itemAmountInSlot[i] = itemInSlot.isEmpty() ? 0 : itemInSlot.getCount();
+        }
+
+        for(FluidStack fluid : recipe.getFluidInputs()) {
+            int fluidAmount = fluid.amount;
+            for(int i = 0; i < fluidInputs.size(); i++) {
+                FluidStack tankFluid = fluidInputs.get(i);
+                if(tankFluid == null || !tankFluid.isFluidEqual(fluid))
+                    continue;
+                int fluidAmountToConsume = Math.min(fluidAmountInTank[i], fluidAmount);
+                fluidAmount -= fluidAmountToConsume;
+                fluidAmountInTank[i] -= fluidAmountToConsume;
+                if(fluidAmount == 0) break;
+            }
+            if(fluidAmount > 0)
+                return false;
+        }
+
+        for(CountableIngredient ingredient : recipe.getInputs()) {
+            int ingredientAmount = ingredient.getCount();
+            for(int i = 0; i < inputs.size(); i++) {
+                ItemStack inputStack = inputs.get(i);
+                if(inputStack.isEmpty() || !ingredient.getIngredient().apply(inputStack))
+                    continue;
+                int itemAmountToConsume = Math.min(itemAmountInSlot[i], ingredientAmount);
+                ingredientAmount -= itemAmountToConsume;
+                itemAmountInSlot[i] -= itemAmountToConsume;
+                if(ingredientAmount == 0) break;
+            }
+            if(ingredientAmount > 0)
+                return false;
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,55 @@
+package gregtech.api.unification.stack;
+
+import gregtech.api.GTValues;
+import net.minecraft.init.Bootstrap;
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures lookups of item and damage keyed values, which back ore dictionary unification lookups.
+ * Run with allocation profiler (gradle jmh does so) to see allocations per lookup in gc.alloc.rate.norm,
+ * which is expected to be zero for exact hit, wildcard fallback and miss alike
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WildcardAwareItemMapBenchmark {
+
+    private WildcardAwareItemMap<String> itemMap;
+    private ItemStack exactStack;
+    private ItemStack wildcardStack;
+    private ItemStack missingStack;
+
+    @Setup
+    public void setup() {
+        Bootstrap.register();
+        this.itemMap = new WildcardAwareItemMap<>();
+        itemMap.put(new ItemStack(Items.DYE, 1, 4), "dyeBlue");
+        itemMap.put(new ItemStack(Items.COAL, 1, GTValues.W), "coal");
+        this.exactStack = new ItemStack(Items.DYE, 1, 4);
+        this.wildcardStack = new ItemStack(Items.COAL, 1, 1);
+        this.missingStack = new ItemStack(Items.DYE, 1, 5);
+    }
+
+    @Benchmark
+    public String getExact() {
+        return itemMap.get(exactStack);
+    }
+
+    @Benchmark
+    public String getWildcard() {
+        return itemMap.get(wildcardStack);
+    }
+
+    @Benchmark
+    public String getMissing() {
+        return itemMap.get(missingStack);
+    }
+
+}
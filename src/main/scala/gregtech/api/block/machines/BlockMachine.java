@@ -190,6 +190,14 @@ public class BlockMachine extends Block implements ITileEntityProvider {
         super.breakBlock(worldIn, pos, state);
     }
 
+    @Override
+    public void neighborChanged(IBlockState state, World worldIn, BlockPos pos, Block blockIn, BlockPos fromPos) {
+        MetaTileEntity metaTileEntity = getMetaTileEntity(worldIn, pos);
+        if(metaTileEntity != null) {
+            metaTileEntity.onNeighborChanged(GTUtility.getFacingToNeighbor(pos, fromPos));
+        }
+    }
+
     @Override
     public void getDrops(NonNullList<ItemStack> drops, IBlockAccess world, BlockPos pos, IBlockState state, int fortune) {
         MetaTileEntity metaTileEntity = tileEntities.get() == null ? getMetaTileEntity(world, pos) : tileEntities.get();
@@ -10,7 +10,6 @@ import gregtech.api.metatileentity.MetaTileEntity;
 import gregtech.api.util.GTUtility;
 import gregtech.common.ConfigHolder;
 import net.minecraft.item.ItemStack;
-import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.common.capabilities.Capability;
@@ -60,11 +59,7 @@ public class EnergyContainerBatteryBuffer extends MTETrait implements IEnergyCon
     public void update() {
         if(!metaTileEntity.getWorld().isRemote) {
             EnumFacing outFacing = metaTileEntity.getFrontFacing();
-            TileEntity tileEntity = metaTileEntity.getWorld().getTileEntity
-                (metaTileEntity.getPos().offset(outFacing));
-            if(tileEntity == null) return;
-            IEnergyContainer energyContainer = tileEntity.getCapability(
-                IEnergyContainer.CAPABILITY_ENERGY_CONTAINER, outFacing.getOpposite());
+            IEnergyContainer energyContainer = getNeighbourCapability(outFacing, IEnergyContainer.CAPABILITY_ENERGY_CONTAINER);
             if(energyContainer == null) return;
             IItemHandlerModifiable inventory = getInventory();
             long voltage = getOutputVoltage();
@@ -9,7 +9,6 @@ import gregtech.common.ConfigHolder;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.network.PacketBuffer;
-import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.common.capabilities.Capability;
@@ -89,7 +88,7 @@ public class EnergyContainerHandler extends MTETrait implements IEnergyContainer
         this.energyStored = energyStored;
         if(!metaTileEntity.getWorld().isRemote) {
             metaTileEntity.markDirty();
-            writeCustomData(0, buf -> buf.writeLong(energyStored));
+            writeThrottledData(0, energyStored, maxCapacity, buf -> buf.writeLong(energyStored));
         }
     }
 
@@ -136,14 +135,11 @@ public class EnergyContainerHandler extends MTETrait implements IEnergyContainer
             long amperesUsed = 0;
             for(EnumFacing side : EnumFacing.VALUES) {
                 if(!outputsEnergy(side)) continue;
-                TileEntity tileEntity = metaTileEntity.getWorld().getTileEntity(metaTileEntity.getPos().offset(side));
                 EnumFacing oppositeSide = side.getOpposite();
-                if(tileEntity != null && tileEntity.hasCapability(IEnergyContainer.CAPABILITY_ENERGY_CONTAINER, oppositeSide)) {
-                    IEnergyContainer energyContainer = tileEntity.getCapability(IEnergyContainer.CAPABILITY_ENERGY_CONTAINER, oppositeSide);
-                    if(energyContainer == null || !energyContainer.inputsEnergy(oppositeSide)) continue;
-                    amperesUsed += energyContainer.acceptEnergyFromNetwork(oppositeSide, outputVoltage, outputAmperes - amperesUsed);
-                    if(amperesUsed == outputAmperes) break;
-                }
+                IEnergyContainer energyContainer = getNeighbourCapability(side, IEnergyContainer.CAPABILITY_ENERGY_CONTAINER);
+                if(energyContainer == null || !energyContainer.inputsEnergy(oppositeSide)) continue;
+                amperesUsed += energyContainer.acceptEnergyFromNetwork(oppositeSide, outputVoltage, outputAmperes - amperesUsed);
+                if(amperesUsed == outputAmperes) break;
             }
             if(amperesUsed > 0) {
                 setEnergyStored(getEnergyStored() - amperesUsed * outputVoltage);
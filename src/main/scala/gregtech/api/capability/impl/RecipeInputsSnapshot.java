@@ -0,0 +1,121 @@
+package gregtech.api.capability.impl;
+
+import gregtech.api.capability.IMultipleTankHandler;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraftforge.fluids.Fluid;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.items.IItemHandler;
+
+/**
+ * Lightweight snapshot of machine import inventories, used to detect whether
+ * inputs were changed since last unsuccessful recipe search.<p>
+ *
+ * Snapshot only remembers item, metadata, count and tag reference of every slot,
+ * and fluid, amount and tag reference of every tank, so capturing and comparing it
+ * is a lot cheaper than searching recipe map, and does not allocate objects after first capture.
+ */
+public class RecipeInputsSnapshot {
+
+    private boolean isValid;
+    private long maxVoltage;
+    private IItemHandler itemInputs;
+    private IMultipleTankHandler fluidInputs;
+
+    private Item[] items = new Item[0];
+    private int[] itemMetadata = new int[0];
+    private int[] itemCounts = new int[0];
+    private NBTTagCompound[] itemTags = new NBTTagCompound[0];
+
+    private Fluid[] fluids = new Fluid[0];
+    private int[] fluidAmounts = new int[0];
+    private NBTTagCompound[] fluidTags = new NBTTagCompound[0];
+
+    public boolean isValid() {
+        return isValid;
+    }
+
+    public void invalidate() {
+        this.isValid = false;
+        this.itemInputs = null;
+        this.fluidInputs = null;
+    }
+
+    public void capture(long maxVoltage, IItemHandler itemInputs, IMultipleTankHandler fluidInputs) {
+        this.maxVoltage = maxVoltage;
+        this.itemInputs = itemInputs;
+        this.fluidInputs = fluidInputs;
+
+        int slots = itemInputs.getSlots();
+        if (items.length != slots) {
+            this.items = new Item[slots];
+            this.itemMetadata = new int[slots];
+            this.itemCounts = new int[slots];
+            this.itemTags = new NBTTagCompound[slots];
+        }
+        for (int i = 0; i < slots; i++) {
+            ItemStack itemStack = itemInputs.getStackInSlot(i);
+            boolean isEmpty = itemStack.isEmpty();
+            items[i] = isEmpty ? null : itemStack.getItem();
+            itemMetadata[i] = isEmpty ? 0 : itemStack.getMetadata();
+            itemCounts[i] = isEmpty ? 0 : itemStack.getCount();
+            itemTags[i] = isEmpty ? null : itemStack.getTagCompound();
+        }
+
+        int tanks = fluidInputs.getTanks();
+        if (fluids.length != tanks) {
+            this.fluids = new Fluid[tanks];
+            this.fluidAmounts = new int[tanks];
+            this.fluidTags = new NBTTagCompound[tanks];
+        }
+        for (int i = 0; i < tanks; i++) {
+            FluidStack fluidStack = fluidInputs.getTankAt(i).getFluid();
+            boolean isEmpty = fluidStack == null;
+            fluids[i] = isEmpty ? null : fluidStack.getFluid();
+            fluidAmounts[i] = isEmpty ? 0 : fluidStack.amount;
+            fluidTags[i] = isEmpty ? null : fluidStack.tag;
+        }
+        this.isValid = true;
+    }
+
+    /**
+     * @return true if snapshot is valid and given inputs and voltage are the same as captured ones
+     */
+    public boolean matches(long maxVoltage, IItemHandler itemInputs, IMultipleTankHandler fluidInputs) {
+        if (!isValid || this.maxVoltage != maxVoltage ||
+            this.itemInputs != itemInputs || this.fluidInputs != fluidInputs)
+            return false;
+        int slots = itemInputs.getSlots();
+        if (items.length != slots)
+            return false;
+        for (int i = 0; i < slots; i++) {
+            ItemStack itemStack = itemInputs.getStackInSlot(i);
+            if (itemStack.isEmpty()) {
+                if (items[i] != null) return false;
+                continue;
+            }
+            if (items[i] != itemStack.getItem() ||
+                itemMetadata[i] != itemStack.getMetadata() ||
+                itemCounts[i] != itemStack.getCount() ||
+                itemTags[i] != itemStack.getTagCompound())
+                return false;
+        }
+        int tanks = fluidInputs.getTanks();
+        if (fluids.length != tanks)
+            return false;
+        for (int i = 0; i < tanks; i++) {
+            FluidStack fluidStack = fluidInputs.getTankAt(i).getFluid();
+            if (fluidStack == null) {
+                if (fluids[i] != null) return false;
+                continue;
+            }
+            if (fluids[i] != fluidStack.getFluid() ||
+                fluidAmounts[i] != fluidStack.amount ||
+                fluidTags[i] != fluidStack.tag)
+                return false;
+        }
+        return true;
+    }
+
+}
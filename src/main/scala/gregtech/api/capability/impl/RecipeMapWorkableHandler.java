@@ -9,6 +9,7 @@ import gregtech.api.recipes.Recipe;
 import gregtech.api.recipes.RecipeMap;
 import gregtech.api.util.GTUtility;
 import gregtech.api.util.XSTR;
+import gregtech.common.ConfigHolder;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
@@ -35,6 +36,10 @@ public abstract class RecipeMapWorkableHandler extends MTETrait implements IWork
     protected NonNullList<ItemStack> itemOutputs;
     protected final Random random = new XSTR();
 
+    private final RecipeInputsSnapshot failedSearchInputs = new RecipeInputsSnapshot();
+    private long lastFailedSearchTime;
+    private long skippedRecipeSearches;
+
     private boolean isActive;
     private boolean workingEnabled = true;
     private boolean hasNotEnoughEnergy;
@@ -80,18 +85,28 @@ public abstract class RecipeMapWorkableHandler extends MTETrait implements IWork
 
         if(progressTime == 0 && workingEnabled) {
             long maxVoltage = getMaxVoltage();
-            Recipe currentRecipe;
-            if(previousRecipe != null && previousRecipe.matches(false, false,
-                metaTileEntity.getImportItems(), metaTileEntity.getImportFluids())) {
+            IItemHandlerModifiable importItems = metaTileEntity.getImportItems();
+            IMultipleTankHandler importFluids = metaTileEntity.getImportFluids();
+            Recipe currentRecipe = null;
+            if(previousRecipe != null && previousRecipe.matches(false, false, importItems, importFluids)) {
                 //if previous recipe still matches inputs, try to use it
                 currentRecipe = previousRecipe;
-            } else {
+            } else if(shouldSearchRecipe(maxVoltage, importItems, importFluids)) {
                 //else, try searching new recipe for given inputs
-                currentRecipe = findRecipe(maxVoltage, metaTileEntity.getImportItems(), metaTileEntity.getImportFluids());
+                currentRecipe = findRecipe(maxVoltage, importItems, importFluids);
                 //if we found recipe that can be buffered, buffer it
                 if(currentRecipe != null && currentRecipe.canBeBuffered()) {
                     this.previousRecipe = currentRecipe;
                 }
+                //remember inputs we failed to find recipe for, so we won't search again until they change
+                if(currentRecipe == null) {
+                    this.failedSearchInputs.capture(maxVoltage, importItems, importFluids);
+                    this.lastFailedSearchTime = metaTileEntity.getTimer();
+                } else {
+                    this.failedSearchInputs.invalidate();
+                }
+            } else {
+                this.skippedRecipeSearches++;
             }
             if(currentRecipe != null && setupAndConsumeRecipeInputs(currentRecipe)) {
                 setupRecipe(currentRecipe);
@@ -108,6 +123,33 @@ public abstract class RecipeMapWorkableHandler extends MTETrait implements IWork
         return recipeMap.findRecipe(maxVoltage, inputs, fluidInputs);
     }
 
+    /**
+     * @return false if last recipe search was unsuccessful and inputs were not changed since then,
+     * unless search back-off interval has expired
+     */
+    protected boolean shouldSearchRecipe(long maxVoltage, IItemHandlerModifiable inputs, IMultipleTankHandler fluidInputs) {
+        int backoffTicks = ConfigHolder.recipeSearchBackoffTicks;
+        if(backoffTicks == 0 || !failedSearchInputs.isValid())
+            return true;
+        if(metaTileEntity.getTimer() - lastFailedSearchTime >= backoffTicks)
+            return true;
+        return !failedSearchInputs.matches(maxVoltage, inputs, fluidInputs);
+    }
+
+    /**
+     * Forces next update to search recipe even if inputs were not changed since last unsuccessful search
+     */
+    public void invalidateRecipeSearchCache() {
+        this.failedSearchInputs.invalidate();
+    }
+
+    /**
+     * @return amount of recipe searches skipped because inputs were not changed since last unsuccessful search
+     */
+    public long getSkippedRecipeSearches() {
+        return skippedRecipeSearches;
+    }
+
     protected boolean setupAndConsumeRecipeInputs(Recipe recipe) {
         int[] resultOverclock = calculateOverclock(recipe.getEUt(), getMaxVoltage(), recipeMap.getAmperage(), recipe.getDuration(), false);
         int totalEUt = resultOverclock[0] * resultOverclock[1];
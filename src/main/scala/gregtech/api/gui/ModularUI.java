@@ -48,8 +48,9 @@ public final class ModularUI {
     }
 
     public void initWidgets() {
-        guiWidgets.values().forEach(widget -> {
+        guiWidgets.forEach((widgetId, widget) -> {
             widget.gui = this;
+            widget.widgetId = widgetId;
             widget.initWidget();
         });
     }
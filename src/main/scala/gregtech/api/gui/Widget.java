@@ -1,11 +1,12 @@
 package gregtech.api.gui;
 
+import gregtech.api.gui.impl.ModularUIContainer;
 import gregtech.api.net.NetworkHandler;
 import gregtech.api.net.PacketUIClientAction;
-import gregtech.api.net.PacketUIWidgetUpdate;
 import io.netty.buffer.Unpooled;
 import net.minecraft.client.entity.EntityPlayerSP;
 import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.inventory.Container;
 import net.minecraft.network.PacketBuffer;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
@@ -22,6 +23,8 @@ public abstract class Widget implements Comparable<Widget> {
     public static final int SLOT_DRAW_PRIORITY = 1000;
 
     protected ModularUI gui;
+    //id of this widget in gui, so it doesn't need to be looked up in widgets map for every update
+    int widgetId;
     public final int drawPriority;
 
     public Widget(int drawPriority) {
@@ -110,14 +113,11 @@ public abstract class Widget implements Comparable<Widget> {
      */
     protected final void writeUpdateInfo(int id, Consumer<PacketBuffer> packetBufferWriter) {
         if(gui.isJEIHandled) return; //do not send packets on jei guis
-        PacketBuffer packetBuffer = new PacketBuffer(Unpooled.buffer());
-        packetBuffer.writeInt(id);
-        packetBufferWriter.accept(packetBuffer);
-        int widgetId = gui.guiWidgets.inverse().get(this);
-        if(gui.entityPlayer instanceof EntityPlayerMP) {
-            int currentWindowId = gui.entityPlayer.openContainer.windowId;
-            PacketUIWidgetUpdate widgetUpdate = new PacketUIWidgetUpdate(currentWindowId, widgetId, packetBuffer);
-            NetworkHandler.channel.sendTo(NetworkHandler.packet2proxy(widgetUpdate), (EntityPlayerMP) gui.entityPlayer);
+        Container openContainer = gui.entityPlayer.openContainer;
+        //updates are collected by container and sent in single packet per tick
+        if(gui.entityPlayer instanceof EntityPlayerMP && openContainer instanceof ModularUIContainer &&
+            ((ModularUIContainer) openContainer).getModularUI() == gui) {
+            ((ModularUIContainer) openContainer).writeWidgetUpdate(widgetId, id, packetBufferWriter);
         }
     }
 
@@ -127,7 +127,6 @@ public abstract class Widget implements Comparable<Widget> {
         PacketBuffer packetBuffer = new PacketBuffer(Unpooled.buffer());
         packetBuffer.writeInt(id);
         packetBufferWriter.accept(packetBuffer);
-        int widgetId = gui.guiWidgets.inverse().get(this);
         if(gui.entityPlayer instanceof EntityPlayerSP) {
             int currentWindowId = gui.entityPlayer.openContainer.windowId;
             PacketUIClientAction widgetUpdate = new PacketUIClientAction(currentWindowId, widgetId, packetBuffer);
@@ -3,19 +3,27 @@ package gregtech.api.gui.impl;
 import gregtech.api.gui.INativeWidget;
 import gregtech.api.gui.ModularUI;
 import gregtech.api.gui.Widget;
+import gregtech.api.net.NetworkHandler;
+import gregtech.api.net.PacketUIWidgetUpdate;
+import io.netty.buffer.Unpooled;
 import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.inventory.ClickType;
 import net.minecraft.inventory.Container;
 import net.minecraft.inventory.IContainerListener;
 import net.minecraft.inventory.Slot;
 import net.minecraft.item.ItemStack;
+import net.minecraft.network.PacketBuffer;
 
 import java.util.HashMap;
+import java.util.function.Consumer;
 
 public class ModularUIContainer extends Container {
 
     private final HashMap<Slot, INativeWidget> slotMap = new HashMap<>();
     private final ModularUI modularUI;
+    //widget updates written since last sync, reused for all syncs of this window
+    private final PacketBuffer widgetUpdates = new PacketBuffer(Unpooled.buffer());
 
     public ModularUIContainer(ModularUI modularUI) {
         this.modularUI = modularUI;
@@ -37,12 +45,35 @@ public class ModularUIContainer extends Container {
     public void addListener(IContainerListener listener) {
         super.addListener(listener);
         modularUI.guiWidgets.values().forEach(Widget::detectAndSendChanges);
+        sendWidgetUpdates();
     }
 
     @Override
     public void detectAndSendChanges() {
         super.detectAndSendChanges();
         modularUI.guiWidgets.values().forEach(Widget::detectAndSendChanges);
+        sendWidgetUpdates();
+    }
+
+    /**
+     * Appends update of given widget to updates which will be sent to client at the end of current sync
+     */
+    public void writeWidgetUpdate(int widgetId, int updateId, Consumer<PacketBuffer> updateWriter) {
+        widgetUpdates.writeVarInt(widgetId);
+        //length of update is written after update itself, so widget can't read data of another one
+        int lengthIndex = widgetUpdates.writerIndex();
+        widgetUpdates.writeInt(0);
+        widgetUpdates.writeInt(updateId);
+        updateWriter.accept(widgetUpdates);
+        widgetUpdates.setInt(lengthIndex, widgetUpdates.writerIndex() - lengthIndex - 4);
+    }
+
+    private void sendWidgetUpdates() {
+        if(widgetUpdates.isReadable() && modularUI.entityPlayer instanceof EntityPlayerMP) {
+            PacketUIWidgetUpdate widgetUpdate = new PacketUIWidgetUpdate(windowId, widgetUpdates);
+            NetworkHandler.channel.sendTo(NetworkHandler.packet2proxy(widgetUpdate), (EntityPlayerMP) modularUI.entityPlayer);
+        }
+        widgetUpdates.clear();
     }
 
     @Override
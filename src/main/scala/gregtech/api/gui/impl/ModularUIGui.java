@@ -5,14 +5,16 @@ import gregtech.api.gui.Widget;
 import gregtech.api.net.PacketUIWidgetUpdate;
 import net.minecraft.client.gui.inventory.GuiContainer;
 import net.minecraft.client.renderer.GlStateManager;
+import net.minecraft.network.PacketBuffer;
 
 import java.io.IOException;
-import java.util.ArrayDeque;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 public class ModularUIGui extends GuiContainer {
 
-    public static Queue<PacketUIWidgetUpdate> queuingWidgetUpdates = new ArrayDeque<>();
+    //packets are added by network thread and processed by client thread
+    public static Queue<PacketUIWidgetUpdate> queuingWidgetUpdates = new ConcurrentLinkedQueue<>();
 
     private final ModularUI modularUI;
 
@@ -40,11 +42,23 @@ public class ModularUIGui extends GuiContainer {
     }
 
     private void processWidgetPackets() {
-        PacketUIWidgetUpdate packet = queuingWidgetUpdates.poll();
-        if(packet != null && packet.windowId == inventorySlots.windowId) {
-            Widget widget = modularUI.guiWidgets.get(packet.widgetId);
-            int discriminator = packet.updateData.readInt();
-            if(widget != null) widget.readUpdateInfo(discriminator, packet.updateData);
+        PacketUIWidgetUpdate packet;
+        while((packet = queuingWidgetUpdates.poll()) != null) {
+            PacketBuffer updateData = packet.updateData;
+            try {
+                if(packet.windowId != inventorySlots.windowId)
+                    continue;
+                while(updateData.isReadable()) {
+                    int widgetId = updateData.readVarInt();
+                    PacketBuffer widgetData = new PacketBuffer(updateData.readSlice(updateData.readInt()));
+                    Widget widget = modularUI.guiWidgets.get(widgetId);
+                    int discriminator = widgetData.readInt();
+                    if(widget != null) widget.readUpdateInfo(discriminator, widgetData);
+                }
+            } finally {
+                //update data is retained slice of received packet buffer
+                updateData.release();
+            }
         }
     }
 
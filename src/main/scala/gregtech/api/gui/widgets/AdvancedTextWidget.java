@@ -12,7 +12,6 @@ import net.minecraftforge.fml.relauncher.SideOnly;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
 
 /**
  * Represents a text-component based widget, which obtains
@@ -25,7 +24,10 @@ public class AdvancedTextWidget extends Widget {
     protected int maxWidthLimit;
 
     protected Consumer<List<ITextComponent>> textSupplier;
-    private ArrayList<ITextComponent> lastText = new ArrayList<>();
+    //last text sent to client on server side, or last text received from server on client side
+    private final ArrayList<ITextComponent> lastText = new ArrayList<>();
+    //formatted lines of text split to fit max width, laid out again only when text changes
+    private List<String> cutText;
     private int color;
 
     public AdvancedTextWidget(int xPosition, int yPosition, Consumer<List<ITextComponent>> text, int color) {
@@ -45,11 +47,12 @@ public class AdvancedTextWidget extends Widget {
     public void detectAndSendChanges() {
         ArrayList<ITextComponent> textBuffer = new ArrayList<>();
         textSupplier.accept(textBuffer);
-        if(!lastText.equals(textBuffer)) {
-            this.lastText = textBuffer;
+        if(!textBuffer.equals(lastText)) {
+            this.lastText.clear();
+            this.lastText.addAll(textBuffer);
             writeUpdateInfo(1, buffer -> {
-                buffer.writeInt(lastText.size());
-                for(ITextComponent textComponent : lastText) {
+                buffer.writeInt(textBuffer.size());
+                for(ITextComponent textComponent : textBuffer) {
                     buffer.writeString(ITextComponent.Serializer.componentToJson(textComponent));
                 }
             });
@@ -57,9 +60,11 @@ public class AdvancedTextWidget extends Widget {
     }
 
     @Override
+    @SideOnly(Side.CLIENT)
     public void readUpdateInfo(int id, PacketBuffer buffer) {
         if(id == 1) {
             this.lastText.clear();
+            this.cutText = null;
             int count = buffer.readInt();
             for(int i = 0; i < count; i++) {
                 String jsonText = buffer.readString(32767);
@@ -72,16 +77,20 @@ public class AdvancedTextWidget extends Widget {
     @SideOnly(Side.CLIENT)
     public void drawInForeground(int mouseX, int mouseY) {
         FontRenderer fontRenderer = Minecraft.getMinecraft().fontRenderer;
-        List<ITextComponent> cutText;
-        if(maxWidthLimit > 0) {
-            cutText = lastText.stream()
-                .flatMap(c -> GuiUtilRenderComponents.splitText(c, maxWidthLimit, fontRenderer, true, true).stream())
-                .collect(Collectors.toList());
-        } else {
-            cutText = lastText;
+        if(cutText == null) {
+            this.cutText = new ArrayList<>();
+            for(ITextComponent textComponent : lastText) {
+                if(maxWidthLimit > 0) {
+                    for(ITextComponent line : GuiUtilRenderComponents.splitText(textComponent, maxWidthLimit, fontRenderer, true, true)) {
+                        cutText.add(line.getFormattedText());
+                    }
+                } else {
+                    cutText.add(textComponent.getFormattedText());
+                }
+            }
         }
         for(int i = 0; i < cutText.size(); i++) {
-            fontRenderer.drawString(cutText.get(i).getFormattedText(), this.xPosition, this.yPosition + (i * (fontRenderer.FONT_HEIGHT + 2)), color);
+            fontRenderer.drawString(cutText.get(i), this.xPosition, this.yPosition + (i * (fontRenderer.FONT_HEIGHT + 2)), color);
         }
     }
 }
@@ -21,6 +21,8 @@ public class DynamicLabelWidget extends Widget {
 
     protected Supplier<String> textSupplier;
     private int color;
+    private String lastText = "";
+    private String[] splitText = new String[] {""};
 
     public DynamicLabelWidget(int xPosition, int yPosition, Supplier<String> text) {
         this(xPosition, yPosition, text, 0x404040);
@@ -37,10 +39,18 @@ public class DynamicLabelWidget extends Widget {
     @Override
     @SideOnly(Side.CLIENT)
     public void drawInForeground(int mouseX, int mouseY) {
-        String[] split = textSupplier.get().split("\n");
+        updateText(textSupplier.get());
         FontRenderer fontRenderer = Minecraft.getMinecraft().fontRenderer;
-        for(int i = 0; i < split.length; i++) {
-            fontRenderer.drawString(split[i], this.xPosition, this.yPosition + (i * (fontRenderer.FONT_HEIGHT + 2)), color);
+        for(int i = 0; i < splitText.length; i++) {
+            fontRenderer.drawString(splitText[i], this.xPosition, this.yPosition + (i * (fontRenderer.FONT_HEIGHT + 2)), color);
+        }
+    }
+
+    private void updateText(String text) {
+        //text is split into lines only when it changes, not every frame
+        if(!text.equals(lastText)) {
+            this.lastText = text;
+            this.splitText = text.split("\n");
         }
     }
 
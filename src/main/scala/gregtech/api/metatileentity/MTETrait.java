@@ -1,6 +1,7 @@
 package gregtech.api.metatileentity;
 
 import com.google.common.base.Preconditions;
+import gregtech.common.ConfigHolder;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.EnumFacing;
@@ -12,6 +13,12 @@ import java.util.function.Consumer;
 public abstract class MTETrait {
 
     protected MetaTileEntity metaTileEntity;
+    //throttled data waiting for the next sync, and value it was written for
+    private int pendingDataId = -1;
+    private Consumer<PacketBuffer> pendingDataWriter;
+    private long pendingValue;
+    private long lastSyncedValue;
+    private long nextSyncTime;
 
     public MTETrait(MetaTileEntity metaTileEntity) {
         this.metaTileEntity = metaTileEntity;
@@ -24,6 +31,15 @@ public abstract class MTETrait {
 
     public abstract String getName();
 
+    /**
+     * @return capability of tile entity adjacent to meta tile entity on given side, cached until neighbour changes
+     * @see MetaTileEntity#getNeighbourCapability(EnumFacing, Capability)
+     */
+    @Nullable
+    protected <T> T getNeighbourCapability(EnumFacing facing, Capability<T> capability) {
+        return metaTileEntity.getNeighbourCapability(facing, capability);
+    }
+
     /**
      * Returns a capability that this trait is implementing
      * May return null to indicate that this trait does not implement any capability
@@ -56,13 +72,51 @@ public abstract class MTETrait {
 
     public final void writeCustomData(int id, Consumer<PacketBuffer> writer) {
         Preconditions.checkElementIndex(id, 100, "Only 0-100 sync ids allowed");
-        metaTileEntity.writeCustomData(-4, buffer -> {
+        //every trait and sync id is a separate value, so updates of different ones aren't merged
+        int updateKey = metaTileEntity.mteTraits.indexOf(this) * 100 + id;
+        metaTileEntity.writeCustomData(-4, updateKey, buffer -> {
             buffer.writeString(getName());
             buffer.writeInt(id);
             writer.accept(buffer);
         });
     }
 
+    /**
+     * Writes custom data of value which changes very often, like stored energy, limiting how often it is sent to clients.
+     * Data is written immediately if player is watching meta tile entity, or if value changed by more than
+     * {@link ConfigHolder#machineValueSyncThreshold} percents of it's range since it was last synced.
+     * Otherwise it is written at most once per {@link ConfigHolder#machineValueSyncInterval} ticks,
+     * but latest data is always written eventually. Every trait can have only one throttled value
+     * @param value current value, used to measure it's change since last sync
+     * @param valueRange maximum value, change is measured relative to it
+     */
+    protected final void writeThrottledData(int id, long value, long valueRange, Consumer<PacketBuffer> writer) {
+        double relativeChange = valueRange == 0L ? 1.0 : Math.abs(value - lastSyncedValue) / (double) valueRange;
+        this.pendingDataId = id;
+        this.pendingDataWriter = writer;
+        this.pendingValue = value;
+        if(relativeChange * 100.0 >= ConfigHolder.machineValueSyncThreshold || canWritePendingData()) {
+            flushPendingData();
+        }
+    }
+
+    final void writePendingData() {
+        if(pendingDataWriter != null && canWritePendingData()) {
+            flushPendingData();
+        }
+    }
+
+    private boolean canWritePendingData() {
+        return metaTileEntity.getWorld().getTotalWorldTime() >= nextSyncTime || metaTileEntity.isWatchedByPlayer();
+    }
+
+    private void flushPendingData() {
+        writeCustomData(pendingDataId, pendingDataWriter);
+        this.lastSyncedValue = pendingValue;
+        this.nextSyncTime = metaTileEntity.getWorld().getTotalWorldTime() + ConfigHolder.machineValueSyncInterval;
+        this.pendingDataWriter = null;
+    }
+
     final void readSyncData(PacketBuffer buffer) {
         int internalId = buffer.readInt();
         receiveCustomData(internalId, buffer);
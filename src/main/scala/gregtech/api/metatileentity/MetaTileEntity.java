@@ -12,6 +12,7 @@ import gregtech.api.capability.impl.FluidHandlerProxy;
 import gregtech.api.capability.impl.FluidTankList;
 import gregtech.api.capability.impl.ItemHandlerProxy;
 import gregtech.api.gui.ModularUI;
+import gregtech.api.gui.impl.ModularUIContainer;
 import gregtech.api.render.Textures;
 import gregtech.api.util.GTUtility;
 import net.minecraft.client.renderer.texture.TextureAtlasSprite;
@@ -48,6 +49,8 @@ import java.util.function.Consumer;
 public abstract class MetaTileEntity {
 
     public static final Cuboid6[] FULL_CUBE_COLLISION = new Cuboid6[] {Cuboid6.full};
+    //players closer than default tile entity render distance can see meta tile entity
+    private static final double WATCH_DISTANCE_SQ = 64.0 * 64.0;
 
     public final String metaTileEntityId;
     MetaTileEntityHolder holder;
@@ -69,6 +72,10 @@ public abstract class MetaTileEntity {
 
     protected int[] sidedRedstoneOutput = new int[6];
 
+    private final NeighbourCapabilityCache neighbourCache = new NeighbourCapabilityCache(this);
+    private long watchCheckTime = -1L;
+    private boolean watchedByPlayer;
+
     public MetaTileEntity(String metaTileEntityId) {
         this.metaTileEntityId = metaTileEntityId;
         initializeInventory();
@@ -113,6 +120,16 @@ public abstract class MetaTileEntity {
         }
     }
 
+    /**
+     * Writes custom data which is merged with previously written data only if both discriminator and update key match
+     * @see MetaTileEntityHolder#writeCustomData(int, int, Consumer)
+     */
+    public void writeCustomData(int discriminator, int updateKey, Consumer<PacketBuffer> dataWriter) {
+        if(holder != null) {
+            holder.writeCustomData(discriminator, updateKey, dataWriter);
+        }
+    }
+
     @SideOnly(Side.CLIENT)
     public void addInformation(ItemStack stack, @Nullable World player, List<String> tooltip, boolean advanced) {
     }
@@ -281,9 +298,36 @@ public abstract class MetaTileEntity {
     public void update() {
         for(MTETrait mteTrait : this.mteTraits) {
             mteTrait.update();
+            mteTrait.writePendingData();
         }
     }
 
+    /**
+     * @return true if any player has UI of this meta tile entity open or is within render distance of it.
+     * Players are checked at most once per tick
+     */
+    public boolean isWatchedByPlayer() {
+        World world = getWorld();
+        long currentTime = world.getTotalWorldTime();
+        if(currentTime != watchCheckTime) {
+            this.watchCheckTime = currentTime;
+            this.watchedByPlayer = checkWatchedByPlayer(world);
+        }
+        return watchedByPlayer;
+    }
+
+    private boolean checkWatchedByPlayer(World world) {
+        BlockPos pos = getPos();
+        for(EntityPlayer player : world.playerEntities) {
+            if(player.openContainer instanceof ModularUIContainer &&
+                ((ModularUIContainer) player.openContainer).getModularUI().holder == holder)
+                return true;
+            if(player.getDistanceSqToCenter(pos) <= WATCH_DISTANCE_SQ)
+                return true;
+        }
+        return false;
+    }
+
     public final ItemStack getStackForm(int amount) {
         int metaTileEntityIntId = GregTechAPI.META_TILE_ENTITY_REGISTRY.getIdByObjectName(metaTileEntityId);
         return new ItemStack(GregTechAPI.MACHINE, amount, metaTileEntityIntId);
@@ -477,10 +521,46 @@ public abstract class MetaTileEntity {
         return false;
     }
 
+    /**
+     * @return tile entity adjacent to given side, cached until neighbour changes,
+     * or null if there is no tile entity or it's chunk is not loaded
+     */
+    @Nullable
+    public TileEntity getNeighbour(EnumFacing facing) {
+        return neighbourCache.getNeighbour(facing);
+    }
+
+    /**
+     * @return capability of tile entity adjacent to given side, queried on the side facing this meta tile entity.
+     * Result is cached until neighbour changes, so prefer this over querying neighbour directly in periodic logic
+     */
+    @Nullable
+    public <T> T getNeighbourCapability(EnumFacing facing, Capability<T> capability) {
+        return neighbourCache.getNeighbourCapability(facing, capability);
+    }
+
+    /**
+     * Called when block adjacent to this meta tile entity changes
+     * @param facing side of changed block, or null if it's unknown
+     */
+    public void onNeighborChanged(@Nullable EnumFacing facing) {
+        if(facing == null) {
+            neighbourCache.invalidateAll();
+        } else {
+            neighbourCache.invalidate(facing);
+        }
+    }
+
+    /**
+     * Called when chunk containing this meta tile entity is unloaded
+     */
+    public void onUnload() {
+        neighbourCache.invalidateAll();
+    }
+
     public void pushFluidsIntoNearbyHandlers(EnumFacing... allowedFaces) {
         for(EnumFacing nearbyFacing : allowedFaces) {
-            IFluidHandler fluidHandler = FluidUtil.getFluidHandler(getWorld(),
-                getPos().offset(nearbyFacing), nearbyFacing.getOpposite());
+            IFluidHandler fluidHandler = getNeighbourFluidHandler(nearbyFacing);
             if(fluidHandler == null) continue;
             for(int tankIndex = 0; tankIndex < exportFluids.getTanks(); tankIndex++) {
                 IFluidTank tank = exportFluids.getTankAt(tankIndex);
@@ -495,9 +575,7 @@ public abstract class MetaTileEntity {
 
     public void pushItemsIntoNearbyHandlers(EnumFacing... allowedFaces) {
         for(EnumFacing nearbyFacing : allowedFaces) {
-            TileEntity tileEntity = getWorld().getTileEntity(getPos().offset(nearbyFacing));
-            if(tileEntity == null) continue;
-            IItemHandler itemHandler = tileEntity.getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, nearbyFacing.getOpposite());
+            IItemHandler itemHandler = getNeighbourCapability(nearbyFacing, CapabilityItemHandler.ITEM_HANDLER_CAPABILITY);
             if(itemHandler == null) continue;
             for(int slotIndex = 0; slotIndex < exportItems.getSlots(); slotIndex++) {
                 ItemStack stackInSlot = exportItems.getStackInSlot(slotIndex);
@@ -516,9 +594,7 @@ public abstract class MetaTileEntity {
 
     public void pullItemsFromNearbyHandlers(EnumFacing... allowedFaces) {
         for(EnumFacing nearbyFacing : allowedFaces) {
-            TileEntity tileEntity = getWorld().getTileEntity(getPos().offset(nearbyFacing));
-            if(tileEntity == null) continue;
-            IItemHandler itemHandler = tileEntity.getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, nearbyFacing.getOpposite());
+            IItemHandler itemHandler = getNeighbourCapability(nearbyFacing, CapabilityItemHandler.ITEM_HANDLER_CAPABILITY);
             if(itemHandler == null) continue;
             for(int slotIndex = 0; slotIndex < itemHandler.getSlots(); slotIndex++) {
                 ItemStack stackInSlot = itemHandler.extractItem(slotIndex, itemHandler.getSlotLimit(slotIndex), true);
@@ -537,8 +613,7 @@ public abstract class MetaTileEntity {
 
     public void pullFluidsFromNearbyHandlers(EnumFacing... allowedFaces) {
         for(EnumFacing nearbyFacing : allowedFaces) {
-            IFluidHandler fluidHandler = FluidUtil.getFluidHandler(getWorld(),
-                getPos().offset(nearbyFacing), nearbyFacing.getOpposite());
+            IFluidHandler fluidHandler = getNeighbourFluidHandler(nearbyFacing);
             if(fluidHandler == null) continue;
             FluidStack fluidStack = fluidHandler.drain(Integer.MAX_VALUE, false);
             if(fluidStack == null || fluidStack.amount == 0) continue;
@@ -550,6 +625,17 @@ public abstract class MetaTileEntity {
         }
     }
 
+    @Nullable
+    private IFluidHandler getNeighbourFluidHandler(EnumFacing facing) {
+        if(getNeighbour(facing) != null)
+            return getNeighbourCapability(facing, CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY);
+        //fluid blocks don't have tile entities, so they are wrapped by FluidUtil
+        BlockPos neighbourPos = getPos().offset(facing);
+        if(!getWorld().isBlockLoaded(neighbourPos))
+            return null;
+        return FluidUtil.getFluidHandler(getWorld(), neighbourPos, facing.getOpposite());
+    }
+
     public static boolean isItemHandlerEmpty(IItemHandler handler) {
         for(int i = 0; i < handler.getSlots(); i++) {
             if(!handler.getStackInSlot(i).isEmpty())
@@ -589,7 +675,7 @@ public abstract class MetaTileEntity {
         this.sidedRedstoneOutput[side.getIndex()] = strength;
         if (!getWorld().isRemote) {
             markDirty();
-            writeCustomData(-3, buf -> {
+            writeCustomData(-3, side.getIndex(), buf -> {
                 buf.writeByte(side.getIndex());
                 buf.writeInt(strength);
             });
@@ -3,16 +3,16 @@ package gregtech.api.metatileentity;
 import com.google.common.base.Preconditions;
 import gregtech.api.GregTechAPI;
 import gregtech.api.gui.IUIHolder;
+import gregtech.api.net.NetworkHandler;
+import gregtech.api.net.PacketMetaTileEntityUpdate;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
-import net.minecraft.block.state.IBlockState;
 import net.minecraft.nbt.NBTTagCompound;
-import net.minecraft.nbt.NBTTagList;
-import net.minecraft.network.NetworkManager;
 import net.minecraft.network.PacketBuffer;
-import net.minecraft.network.play.server.SPacketUpdateTileEntity;
 import net.minecraft.util.EnumFacing;
+import net.minecraft.server.management.PlayerChunkMapEntry;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.WorldServer;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.util.Constants.NBT;
 
@@ -24,7 +24,12 @@ import java.util.function.Consumer;
 
 public class MetaTileEntityHolder extends TickableTileEntityBase implements IUIHolder {
 
+    private static final int MAX_UPDATE_BUFFER_CAPACITY = 65536;
+
     private MetaTileEntity metaTileEntity;
+    //custom data queued during current tick, stored in update packet format and reused between ticks
+    private PacketBuffer updateBuffer;
+    private final List<UpdateEntry> updateEntries = new ArrayList<>();
 
     public MetaTileEntity getMetaTileEntity() {
         return metaTileEntity;
@@ -99,6 +104,14 @@ public class MetaTileEntityHolder extends TickableTileEntityBase implements IUIH
         return super.getCapability(capability, facing);
     }
 
+    @Override
+    public void onChunkUnload() {
+        super.onChunkUnload();
+        if(metaTileEntity != null) {
+            metaTileEntity.onUnload();
+        }
+    }
+
     @Override
     public void update() {
         if(metaTileEntity != null) {
@@ -107,6 +120,9 @@ public class MetaTileEntityHolder extends TickableTileEntityBase implements IUIH
         //increment only after current tick, so meta tile entities will get first tick as timer == 0
         //and update their settings which depend on getTimer() % N properly
         super.update();
+        if(!updateEntries.isEmpty()) {
+            sendCustomData();
+        }
     }
 
     public void writeInitialSyncData(PacketBuffer buf) {
@@ -143,52 +159,81 @@ public class MetaTileEntityHolder extends TickableTileEntityBase implements IUIH
         markDirty();
     }
 
-    private static class UpdateEntry {
-        private final int discriminator;
-        private final byte[] updateData;
+    public void writeCustomData(int discriminator, Consumer<PacketBuffer> dataWriter) {
+        writeCustomData(discriminator, 0, dataWriter);
+    }
 
-        public UpdateEntry(int discriminator, byte[] updateData) {
-            this.discriminator = discriminator;
-            this.updateData = updateData;
+    /**
+     * Queues custom data to be sent to clients watching this tile entity.
+     * All data written during the tick is sent in single packet at the end of this tile entity's update,
+     * and data written with the same discriminator and update key replaces previously queued one,
+     * so only the latest value is sent
+     * @param updateKey distinguishes independent values written with the same discriminator
+     */
+    public void writeCustomData(int discriminator, int updateKey, Consumer<PacketBuffer> dataWriter) {
+        //custom data is only sent from server to client
+        if(world == null || world.isRemote) return;
+        if(updateBuffer == null) {
+            this.updateBuffer = new PacketBuffer(Unpooled.buffer());
         }
+        long packedUpdateKey = (long) discriminator << 32 | updateKey & 0xFFFFFFFFL;
+        if(discriminator == -100000) {
+            //meta tile entity was replaced, so data of previous one is obsolete
+            updateEntries.clear();
+            updateBuffer.clear();
+        } else {
+            //bytes of replaced entry stay in buffer until it's compacted before sending
+            updateEntries.removeIf(updateEntry -> updateEntry.updateKey == packedUpdateKey);
+        }
+        int startIndex = updateBuffer.writerIndex();
+        updateBuffer.writeInt(discriminator);
+        //length of data is set after it's written
+        updateBuffer.writeInt(0);
+        dataWriter.accept(updateBuffer);
+        updateBuffer.setInt(startIndex + 4, updateBuffer.writerIndex() - startIndex - 8);
+        updateEntries.add(new UpdateEntry(packedUpdateKey, startIndex, updateBuffer.writerIndex()));
     }
 
-    private final List<UpdateEntry> updateEntries = new ArrayList<>();
-
-    public void writeCustomData(int discriminator, Consumer<PacketBuffer> dataWriter) {
-        ByteBuf backedBuffer = Unpooled.buffer();
-        dataWriter.accept(new PacketBuffer(backedBuffer));
-        byte[] updateData = Arrays.copyOfRange(backedBuffer.array(), 0, backedBuffer.writerIndex());
-        updateEntries.add(new UpdateEntry(discriminator, updateData));
-        IBlockState blockState = getBlockType().getStateFromMeta(getBlockMetadata());
-        world.notifyBlockUpdate(getPos(), blockState, blockState, 0);
+    private void sendCustomData() {
+        PlayerChunkMapEntry chunkEntry = ((WorldServer) world).getPlayerChunkMap().getEntry(getPos().getX() >> 4, getPos().getZ() >> 4);
+        //players which didn't receive chunk yet will get current state with it
+        if(chunkEntry != null && chunkEntry.isSentToPlayers()) {
+            compactUpdateBuffer();
+            //packet is encoded into it's own payload right away, so update buffer can be reused after that
+            PacketMetaTileEntityUpdate packet = new PacketMetaTileEntityUpdate(world.provider.getDimension(), getPos(), updateBuffer);
+            chunkEntry.sendPacket(NetworkHandler.packet2proxy(packet));
+        }
+        updateEntries.clear();
+        updateBuffer.clear();
+        if(updateBuffer.capacity() > MAX_UPDATE_BUFFER_CAPACITY) {
+            //do not keep buffer grown by single big update around forever
+            this.updateBuffer = null;
+        }
     }
 
-    @Override
-    public SPacketUpdateTileEntity getUpdatePacket() {
-        NBTTagCompound updateTag = new NBTTagCompound();
-        NBTTagList tagList = new NBTTagList();
+    /**
+     * Moves queued entries over bytes of replaced ones, so buffer contains only entries which should be sent
+     */
+    private void compactUpdateBuffer() {
+        byte[] bufferArray = updateBuffer.array();
+        int arrayOffset = updateBuffer.arrayOffset();
+        int writeIndex = 0;
         for(UpdateEntry updateEntry : updateEntries) {
-            NBTTagCompound entryTag = new NBTTagCompound();
-            entryTag.setInteger("id", updateEntry.discriminator);
-            entryTag.setByteArray("data", updateEntry.updateData);
-            tagList.appendTag(entryTag);
+            int entryLength = updateEntry.endIndex - updateEntry.startIndex;
+            //entries are queued in buffer order, so they are only ever moved back
+            if(updateEntry.startIndex != writeIndex) {
+                System.arraycopy(bufferArray, arrayOffset + updateEntry.startIndex, bufferArray, arrayOffset + writeIndex, entryLength);
+            }
+            writeIndex += entryLength;
         }
-        updateEntries.clear();
-        updateTag.setTag("data", tagList);
-        return new SPacketUpdateTileEntity(getPos(), 0, updateTag);
+        updateBuffer.writerIndex(writeIndex);
     }
 
-    @Override
-    public void onDataPacket(NetworkManager net, SPacketUpdateTileEntity pkt) {
-        NBTTagCompound updateTag = pkt.getNbtCompound();
-        NBTTagList tagList = updateTag.getTagList("data", NBT.TAG_COMPOUND);
-        for(int i = 0; i < tagList.tagCount(); i++) {
-            NBTTagCompound entryTag = tagList.getCompoundTagAt(i);
-            int discriminator = entryTag.getInteger("id");
-            byte[] updateData = entryTag.getByteArray("data");
-            ByteBuf backedBuffer = Unpooled.copiedBuffer(updateData);
-            receiveCustomData(discriminator, new PacketBuffer(backedBuffer));
+    public void receiveCustomData(PacketBuffer updateData) {
+        while(updateData.isReadable()) {
+            int discriminator = updateData.readInt();
+            int dataLength = updateData.readInt();
+            receiveCustomData(discriminator, new PacketBuffer(updateData.readSlice(dataLength)));
         }
     }
 
@@ -211,4 +256,17 @@ public class MetaTileEntityHolder extends TickableTileEntityBase implements IUIH
         ByteBuf backedBuffer = Unpooled.copiedBuffer(updateData);
         receiveInitialSyncData(new PacketBuffer(backedBuffer));
     }
+
+    private static class UpdateEntry {
+        private final long updateKey;
+        //range of entry in update buffer, including it's discriminator and data length
+        private final int startIndex;
+        private final int endIndex;
+
+        public UpdateEntry(long updateKey, int startIndex, int endIndex) {
+            this.updateKey = updateKey;
+            this.startIndex = startIndex;
+            this.endIndex = endIndex;
+        }
+    }
 }
@@ -0,0 +1,101 @@
+package gregtech.api.metatileentity;
+
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.common.capabilities.Capability;
+
+import javax.annotation.Nullable;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Caches tile entities adjacent to meta tile entity and capabilities they expose
+ * on the side facing it, so periodic I/O doesn't look them up every tick.<p>
+ *
+ * Face is resolved again after it was invalidated by neighbour block change,
+ * after neighbour tile entity was invalidated, or after neighbour chunk was unloaded.
+ * Faces which neighbour chunk isn't loaded are never resolved, so lookups don't load chunks.
+ */
+class NeighbourCapabilityCache {
+
+    //marks capabilities which neighbour doesn't have, so they aren't queried again
+    private static final Object NO_CAPABILITY = new Object();
+
+    private final MetaTileEntity metaTileEntity;
+    //chunk of resolved neighbour, null if face isn't resolved
+    private final Chunk[] neighbourChunks = new Chunk[6];
+    private final TileEntity[] neighbourTileEntities = new TileEntity[6];
+    private final Map<Capability<?>, Object>[] neighbourCapabilities;
+
+    @SuppressWarnings("unchecked")
+    NeighbourCapabilityCache(MetaTileEntity metaTileEntity) {
+        this.metaTileEntity = metaTileEntity;
+        this.neighbourCapabilities = new Map[6];
+        for(int i = 0; i < neighbourCapabilities.length; i++) {
+            neighbourCapabilities[i] = new IdentityHashMap<>();
+        }
+    }
+
+    @Nullable
+    TileEntity getNeighbour(EnumFacing facing) {
+        int index = facing.getIndex();
+        if(!isResolved(index) && !resolve(facing)) {
+            return null;
+        }
+        return neighbourTileEntities[index];
+    }
+
+    @Nullable
+    <T> T getNeighbourCapability(EnumFacing facing, Capability<T> capability) {
+        TileEntity tileEntity = getNeighbour(facing);
+        if(tileEntity == null) {
+            return null;
+        }
+        Map<Capability<?>, Object> capabilities = neighbourCapabilities[facing.getIndex()];
+        Object cachedCapability = capabilities.get(capability);
+        if(cachedCapability == null) {
+            T capabilityValue = tileEntity.getCapability(capability, facing.getOpposite());
+            cachedCapability = capabilityValue == null ? NO_CAPABILITY : capabilityValue;
+            capabilities.put(capability, cachedCapability);
+        }
+        return cachedCapability == NO_CAPABILITY ? null : capability.cast(cachedCapability);
+    }
+
+    void invalidate(EnumFacing facing) {
+        int index = facing.getIndex();
+        neighbourChunks[index] = null;
+        neighbourTileEntities[index] = null;
+        neighbourCapabilities[index].clear();
+    }
+
+    void invalidateAll() {
+        for(EnumFacing facing : EnumFacing.VALUES) {
+            invalidate(facing);
+        }
+    }
+
+    private boolean isResolved(int index) {
+        Chunk chunk = neighbourChunks[index];
+        if(chunk == null || !chunk.isLoaded())
+            return false;
+        TileEntity tileEntity = neighbourTileEntities[index];
+        return tileEntity == null || !tileEntity.isInvalid();
+    }
+
+    private boolean resolve(EnumFacing facing) {
+        invalidate(facing);
+        World world = metaTileEntity.getWorld();
+        BlockPos neighbourPos = metaTileEntity.getPos().offset(facing);
+        if(world == null || !world.isBlockLoaded(neighbourPos)) {
+            return false;
+        }
+        int index = facing.getIndex();
+        neighbourChunks[index] = world.getChunkFromBlockCoords(neighbourPos);
+        neighbourTileEntities[index] = world.getTileEntity(neighbourPos);
+        return true;
+    }
+
+}
@@ -7,15 +7,18 @@ import gregtech.api.metatileentity.MetaTileEntity;
 import gregtech.api.metatileentity.MetaTileEntityHolder;
 import gregtech.api.multiblock.BlockPattern;
 import gregtech.api.multiblock.BlockWorldState;
+import gregtech.api.multiblock.IBlockStatePredicate;
 import gregtech.api.multiblock.IPatternCenterPredicate;
 import gregtech.api.multiblock.PatternMatchContext;
 import gregtech.api.render.ICubeRenderer;
+import gregtech.common.ConfigHolder;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.client.renderer.texture.TextureAtlasSprite;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
+import net.minecraft.world.gen.structure.StructureBoundingBox;
 import org.apache.commons.lang3.ArrayUtils;
 
 import java.util.*;
@@ -32,6 +35,10 @@ public abstract class MultiblockControllerBase extends MetaTileEntity {
     private final List<IMultiblockPart> multiblockParts = new ArrayList<>();
     private boolean structureFormed;
     private boolean validationSuccess;
+    //bounding box structure is tracked with, null if it's not tracked
+    private StructureBoundingBox structureBoundingBox;
+    //true when block inside structure bounding box has changed since last structure check
+    private boolean structureDirty = true;
 
     public MultiblockControllerBase(String metaTileEntityId) {
         super(metaTileEntityId);
@@ -47,7 +54,16 @@ public abstract class MultiblockControllerBase extends MetaTileEntity {
     public void update() {
         super.update();
         if(!getWorld().isRemote) {
-            if(getTimer() % 20 == 0) {
+            if(structureBoundingBox == null) {
+                EnumFacing facing = getFrontFacing().getOpposite();
+                this.structureBoundingBox = structurePattern.getBoundingBox(getPos(), facing);
+                MultiblockStructureTracker.getTracker(getWorld()).trackController(this, structureBoundingBox);
+            }
+            int recheckInterval = ConfigHolder.multiblockStructureRecheckInterval;
+            boolean shouldCheckStructure = structureDirty || (recheckInterval > 0 && getTimer() % recheckInterval == 0);
+            //structure is read directly from loaded chunks, so wait until all of them are loaded
+            if(shouldCheckStructure && getWorld().isAreaLoaded(structureBoundingBox)) {
+                this.structureDirty = false;
                 checkStructurePattern();
             }
             if(isStructureFormed()) {
@@ -56,6 +72,41 @@ public abstract class MultiblockControllerBase extends MetaTileEntity {
         }
     }
 
+    /**
+     * Marks structure to be checked on next update. Called by {@link MultiblockStructureTracker}
+     * when block inside structure bounding box changes
+     */
+    public void markStructureDirty() {
+        this.structureDirty = true;
+    }
+
+    @Override
+    public void setFrontFacing(EnumFacing frontFacing) {
+        super.setFrontFacing(frontFacing);
+        //structure bounding box depends on facing
+        untrackStructure();
+    }
+
+    @Override
+    public void onRemoval() {
+        super.onRemoval();
+        untrackStructure();
+    }
+
+    @Override
+    public void onUnload() {
+        super.onUnload();
+        untrackStructure();
+    }
+
+    private void untrackStructure() {
+        if(structureBoundingBox != null && !getWorld().isRemote) {
+            MultiblockStructureTracker.getTracker(getWorld()).untrackController(this);
+        }
+        this.structureBoundingBox = null;
+        this.structureDirty = true;
+    }
+
     /**
      * Called when the multiblock is formed and validation predicate is matched
      */
@@ -98,11 +149,11 @@ public abstract class MultiblockControllerBase extends MetaTileEntity {
         return tilePredicate((state, tile) -> tile instanceof IMultiblockPart && baseClass.isAssignableFrom(tile.getClass()));
     }
 
-    public static Predicate<BlockWorldState> statePredicate(IBlockState... allowedStates) {
+    public static IBlockStatePredicate statePredicate(IBlockState... allowedStates) {
         return blockWorldState -> ArrayUtils.contains(allowedStates, blockWorldState.getBlockState());
     }
 
-    public static Predicate<BlockWorldState> blockPredicate(Block... block) {
+    public static IBlockStatePredicate blockPredicate(Block... block) {
         return blockWorldState -> ArrayUtils.contains(block, blockWorldState.getBlockState().getBlock());
     }
 
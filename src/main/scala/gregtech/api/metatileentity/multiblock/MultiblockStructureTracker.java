@@ -0,0 +1,144 @@
+package gregtech.api.metatileentity.multiblock;
+
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.SoundCategory;
+import net.minecraft.util.SoundEvent;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.IWorldEventListener;
+import net.minecraft.world.World;
+import net.minecraft.world.gen.structure.StructureBoundingBox;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tracks bounding boxes of multiblock structures in server world and notifies
+ * controllers when block inside their bounding box changes, so they re-check
+ * their structure only when it could actually change.<p>
+ *
+ * Controllers are indexed by chunks their bounding box intersects,
+ * so block change only tests controllers located in the same chunk.
+ */
+public class MultiblockStructureTracker implements IWorldEventListener {
+
+    private static final Map<World, MultiblockStructureTracker> TRACKERS = new HashMap<>();
+
+    private final Map<MultiblockControllerBase, StructureBoundingBox> trackedBoxes = new HashMap<>();
+    //chunk position (packed with ChunkPos.asLong) -> controllers which bounding box intersects it
+    private final TLongObjectMap<List<MultiblockControllerBase>> controllersByChunk = new TLongObjectHashMap<>();
+
+    public static MultiblockStructureTracker getTracker(World world) {
+        MultiblockStructureTracker tracker = TRACKERS.get(world);
+        if(tracker == null) {
+            tracker = new MultiblockStructureTracker();
+            world.addEventListener(tracker);
+            TRACKERS.put(world, tracker);
+        }
+        return tracker;
+    }
+
+    public static void onWorldUnload(World world) {
+        MultiblockStructureTracker tracker = TRACKERS.remove(world);
+        if(tracker != null) {
+            world.removeEventListener(tracker);
+        }
+    }
+
+    public void trackController(MultiblockControllerBase controller, StructureBoundingBox boundingBox) {
+        untrackController(controller);
+        trackedBoxes.put(controller, boundingBox);
+        for(int chunkX = boundingBox.minX >> 4; chunkX <= boundingBox.maxX >> 4; chunkX++) {
+            for(int chunkZ = boundingBox.minZ >> 4; chunkZ <= boundingBox.maxZ >> 4; chunkZ++) {
+                long chunkKey = ChunkPos.asLong(chunkX, chunkZ);
+                List<MultiblockControllerBase> controllers = controllersByChunk.get(chunkKey);
+                if(controllers == null) {
+                    controllers = new ArrayList<>(1);
+                    controllersByChunk.put(chunkKey, controllers);
+                }
+                controllers.add(controller);
+            }
+        }
+    }
+
+    public void untrackController(MultiblockControllerBase controller) {
+        StructureBoundingBox boundingBox = trackedBoxes.remove(controller);
+        if(boundingBox == null) return;
+        for(int chunkX = boundingBox.minX >> 4; chunkX <= boundingBox.maxX >> 4; chunkX++) {
+            for(int chunkZ = boundingBox.minZ >> 4; chunkZ <= boundingBox.maxZ >> 4; chunkZ++) {
+                long chunkKey = ChunkPos.asLong(chunkX, chunkZ);
+                List<MultiblockControllerBase> controllers = controllersByChunk.get(chunkKey);
+                if(controllers == null) continue;
+                controllers.remove(controller);
+                if(controllers.isEmpty()) {
+                    controllersByChunk.remove(chunkKey);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void notifyBlockUpdate(World worldIn, BlockPos pos, IBlockState oldState, IBlockState newState, int flags) {
+        //same state is notified to resend tile entity data, it doesn't change structure
+        if(oldState == newState) return;
+        List<MultiblockControllerBase> controllers = controllersByChunk.get(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4));
+        if(controllers == null) return;
+        for(MultiblockControllerBase controller : controllers) {
+            if(trackedBoxes.get(controller).isVecInside(pos)) {
+                controller.markStructureDirty();
+            }
+        }
+    }
+
+    @Override
+    public void notifyLightSet(BlockPos pos) {
+    }
+
+    @Override
+    public void markBlockRangeForRenderUpdate(int x1, int y1, int z1, int x2, int y2, int z2) {
+    }
+
+    @Override
+    public void playSoundToAllNearExcept(@Nullable EntityPlayer player, SoundEvent soundIn, SoundCategory category, double x, double y, double z, float volume, float pitch) {
+    }
+
+    @Override
+    public void playRecord(SoundEvent soundIn, BlockPos pos) {
+    }
+
+    @Override
+    public void spawnParticle(int particleID, boolean ignoreRange, double xCoord, double yCoord, double zCoord, double xSpeed, double ySpeed, double zSpeed, int... parameters) {
+    }
+
+    @Override
+    public void spawnParticle(int id, boolean ignoreRange, boolean minimiseParticleLevel, double x, double y, double z, double xSpeed, double ySpeed, double zSpeed, int... parameters) {
+    }
+
+    @Override
+    public void onEntityAdded(Entity entityIn) {
+    }
+
+    @Override
+    public void onEntityRemoved(Entity entityIn) {
+    }
+
+    @Override
+    public void broadcastSound(int soundID, BlockPos pos, int data) {
+    }
+
+    @Override
+    public void playEvent(EntityPlayer player, int type, BlockPos blockPosIn, int data) {
+    }
+
+    @Override
+    public void sendBlockBreakProgress(int breakerId, BlockPos pos, int progress) {
+    }
+
+}
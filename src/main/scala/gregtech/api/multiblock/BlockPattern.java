@@ -1,5 +1,6 @@
 package gregtech.api.multiblock;
 
+import gregtech.api.util.world.ChunkBlockReader;
 import net.minecraft.block.BlockColored;
 import net.minecraft.init.Blocks;
 import net.minecraft.item.EnumDyeColor;
@@ -8,8 +9,11 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.BlockPos.MutableBlockPos;
 import net.minecraft.util.math.Vec3i;
 import net.minecraft.world.World;
+import net.minecraft.world.gen.structure.StructureBoundingBox;
 
+import java.util.ArrayList;
 import java.util.EnumMap;
+import java.util.List;
 import java.util.Random;
 import java.util.function.Predicate;
 
@@ -26,6 +30,16 @@ public class BlockPattern {
     private static final EnumFacing[] ALLOWED_FACINGS = EnumFacing.HORIZONTALS;
     private final EnumMap<EnumFacing, Vec3i> centerOffset = new EnumMap<>(EnumFacing.class);
 
+    //predicates in check order and their offsets from center for every facing, as flat x, y, z array
+    private Predicate<BlockWorldState>[] compiledPredicates;
+    private final EnumMap<EnumFacing, int[]> compiledOffsets = new EnumMap<>(EnumFacing.class);
+
+    //reused between checks, structure checks are done only on server thread
+    private final PatternMatchContext matchContext = new PatternMatchContext();
+    private final BlockWorldState worldState = new BlockWorldState();
+    private final MutableBlockPos checkPos = new MutableBlockPos();
+    private final ChunkBlockReader blockReader = new ChunkBlockReader();
+
     public BlockPattern(Predicate<BlockWorldState>[][][] predicatesIn) {
         this.blockMatches = predicatesIn;
         this.fingerLength = predicatesIn.length;
@@ -43,6 +57,7 @@ public class BlockPattern {
             this.palmLength = 0;
         }
         initializeCenterOffsets();
+        compilePattern();
     }
 
     private void initializeCenterOffsets() {
@@ -81,31 +96,87 @@ public class BlockPattern {
         return this.palmLength;
     }
 
-    public PatternMatchContext checkPatternAt(World world, BlockPos centerPos, EnumFacing facing) {
+    /**
+     * @return box containing all blocks of this pattern placed with given center position and facing
+     */
+    public StructureBoundingBox getBoundingBox(BlockPos centerPos, EnumFacing facing) {
         Vec3i cornerOffset = centerPos.subtract(centerOffset.get(facing));
-        BlockWorldState worldState = new BlockWorldState();
-        MutableBlockPos blockPos = new MutableBlockPos();
-        PatternMatchContext matchContext = new PatternMatchContext();
-        for (int x = 0; x < this.palmLength; x++) {
-            for (int y = 0; y < this.thumbLength; y++) {
-                for (int z = 0; z < this.fingerLength; z++) {
-                    Predicate<BlockWorldState> predicate = this.blockMatches[z][y][x];
-                    blockPos.setPos(x, y, z);
-                    rotate(blockPos, facing, palmLength - 1, fingerLength - 1);
-                    blockPos.setPos(blockPos.getX() + cornerOffset.getX(), blockPos.getY() + cornerOffset.getY(), blockPos.getZ() + cornerOffset.getZ());
-                    if(DEBUG_STRUCTURES) {
-                        EnumDyeColor dyeColor = EnumDyeColor.values()[new Random(predicate.hashCode()).nextInt(15)];
-                        world.setBlockState(blockPos, Blocks.WOOL.getDefaultState().withProperty(BlockColored.COLOR, dyeColor));
-                    } else {
-                        worldState.update(world, blockPos, matchContext);
-                        if (!predicate.test(worldState)) {
-                            return null;
+        MutableBlockPos firstCorner = rotate(new MutableBlockPos(0, 0, 0), facing, palmLength - 1, fingerLength - 1);
+        MutableBlockPos secondCorner = rotate(new MutableBlockPos(palmLength - 1, thumbLength - 1, fingerLength - 1), facing, palmLength - 1, fingerLength - 1);
+        return new StructureBoundingBox(firstCorner.add(cornerOffset), secondCorner.add(cornerOffset));
+    }
+
+    /**
+     * Checks whether pattern matches blocks in world.
+     * Returned match context is reused by this pattern, so it's valid only until next check
+     * @return match context filled by predicates, or null if pattern doesn't match
+     */
+    public PatternMatchContext checkPatternAt(World world, BlockPos centerPos, EnumFacing facing) {
+        int[] offsets = compiledOffsets.get(facing);
+        matchContext.reset();
+        blockReader.reset(world);
+        if(DEBUG_STRUCTURES) {
+            for (int i = 0; i < compiledPredicates.length; i++) {
+                setOffsetPos(centerPos, offsets, i);
+                EnumDyeColor dyeColor = EnumDyeColor.values()[new Random(compiledPredicates[i].hashCode()).nextInt(15)];
+                world.setBlockState(checkPos, Blocks.WOOL.getDefaultState().withProperty(BlockColored.COLOR, dyeColor));
+            }
+            return matchContext;
+        }
+        for (int i = 0; i < compiledPredicates.length; i++) {
+            setOffsetPos(centerPos, offsets, i);
+            worldState.update(world, checkPos, matchContext, blockReader);
+            if (!compiledPredicates[i].test(worldState)) {
+                return null;
+            }
+        }
+        return matchContext;
+    }
+
+    private void setOffsetPos(BlockPos centerPos, int[] offsets, int index) {
+        int offsetIndex = index * 3;
+        checkPos.setPos(centerPos.getX() + offsets[offsetIndex],
+            centerPos.getY() + offsets[offsetIndex + 1],
+            centerPos.getZ() + offsets[offsetIndex + 2]);
+    }
+
+    /**
+     * Flattens predicates into check order: block state predicates first, then all other ones,
+     * both in x, y, z order, so predicates with side effects see blocks in the same order as before.
+     * Offsets of every position relative to the center are precomputed for every facing
+     */
+    @SuppressWarnings("unchecked")
+    private void compilePattern() {
+        List<Predicate<BlockWorldState>> predicates = new ArrayList<>();
+        List<Vec3i> positions = new ArrayList<>();
+        for (int pass = 0; pass < 2; pass++) {
+            boolean statePredicates = pass == 0;
+            for (int x = 0; x < this.palmLength; x++) {
+                for (int y = 0; y < this.thumbLength; y++) {
+                    for (int z = 0; z < this.fingerLength; z++) {
+                        Predicate<BlockWorldState> predicate = this.blockMatches[z][y][x];
+                        if ((predicate instanceof IBlockStatePredicate) == statePredicates) {
+                            predicates.add(predicate);
+                            positions.add(new Vec3i(x, y, z));
                         }
                     }
                 }
             }
         }
-        return matchContext;
+        this.compiledPredicates = predicates.toArray(new Predicate[0]);
+        MutableBlockPos blockPos = new MutableBlockPos();
+        for (EnumFacing facing : ALLOWED_FACINGS) {
+            Vec3i center = centerOffset.get(facing);
+            int[] offsets = new int[positions.size() * 3];
+            for (int i = 0; i < positions.size(); i++) {
+                blockPos.setPos(positions.get(i));
+                rotate(blockPos, facing, palmLength - 1, fingerLength - 1);
+                offsets[i * 3] = blockPos.getX() - center.getX();
+                offsets[i * 3 + 1] = blockPos.getY() - center.getY();
+                offsets[i * 3 + 2] = blockPos.getZ() - center.getZ();
+            }
+            compiledOffsets.put(facing, offsets);
+        }
     }
 
     private static MutableBlockPos rotate(MutableBlockPos pos, EnumFacing facing, int xSize, int zSize) {
@@ -1,5 +1,6 @@
 package gregtech.api.multiblock;
 
+import gregtech.api.util.world.ChunkBlockReader;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
@@ -18,13 +19,15 @@ public class BlockWorldState {
     private TileEntity tileEntity;
     private boolean tileEntityInitialized;
     private PatternMatchContext matchContext;
+    private ChunkBlockReader blockReader;
 
     public static IPatternCenterPredicate wrap(Predicate<BlockWorldState> predicate) {
         return predicate::test;
     }
 
-    public void update(World worldIn, BlockPos posIn, PatternMatchContext matchContext) {
+    public void update(World worldIn, BlockPos posIn, PatternMatchContext matchContext, ChunkBlockReader blockReader) {
         this.world = worldIn;
+        this.blockReader = blockReader;
         this.pos = posIn;
         this.state = null;
         this.tileEntity = null;
@@ -38,7 +41,9 @@ public class BlockWorldState {
 
     public IBlockState getBlockState() {
         if (this.state == null) {
-            this.state = this.world.getBlockState(this.pos);
+            IBlockState blockState = this.blockReader.getBlockState(this.pos);
+            //reader never loads chunks, so positions in unloaded chunks are read through world
+            this.state = blockState == null ? this.world.getBlockState(this.pos) : blockState;
         }
 
         return this.state;
@@ -21,7 +21,7 @@ public class FactoryBlockPattern {
     private int rowWidth;
 
     private FactoryBlockPattern() {
-        this.symbolMap.put(' ', k -> true);
+        this.symbolMap.put(' ', (IBlockStatePredicate) k -> true);
     }
 
     /**
@@ -0,0 +1,12 @@
+package gregtech.api.multiblock;
+
+import java.util.function.Predicate;
+
+/**
+ * Predicate which tests only block state and has no side effects on match context.
+ * {@link BlockPattern} checks such predicates before all other ones, so structure check fails fast
+ * without querying tile entities
+ */
+public interface IBlockStatePredicate extends Predicate<BlockWorldState> {
+
+}
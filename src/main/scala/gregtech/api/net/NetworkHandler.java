@@ -5,13 +5,18 @@ import gregtech.api.gui.ModularUI;
 import gregtech.api.gui.UIFactory;
 import gregtech.api.gui.impl.ModularUIContainer;
 import gregtech.api.gui.impl.ModularUIGui;
+import gregtech.api.metatileentity.MetaTileEntityHolder;
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
+import net.minecraft.client.Minecraft;
 import net.minecraft.client.network.NetHandlerPlayClient;
 import net.minecraft.inventory.Container;
 import net.minecraft.network.INetHandler;
 import net.minecraft.network.NetHandlerPlayServer;
 import net.minecraft.network.PacketBuffer;
+import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.IntIdentityHashBiMap;
+import net.minecraft.world.World;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.fml.common.FMLCommonHandler;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
@@ -62,12 +67,9 @@ public class NetworkHandler {
     @SideOnly(Side.CLIENT) private static HashMap<Class<? extends Packet>, PacketExecutor<? extends Packet, NetHandlerPlayClient>> clientExecutors;
     private static final HashMap<Class<? extends Packet>, PacketExecutor<? extends Packet, NetHandlerPlayServer>> serverExecutors = new HashMap<>();
     private static final IntIdentityHashBiMap<Class<? extends Packet>> packetMap = new IntIdentityHashBiMap<>(10);
-
-    static {
-        if(FMLCommonHandler.instance().getSide().isClient()) {
-            clientExecutors = new HashMap<>();
-        }
-    }
+    private static final int MAX_ENCODE_BUFFER_CAPACITY = 65536;
+    //packets are encoded into reused per-thread buffer first, so outgoing buffer is allocated once with exact size
+    private static final ThreadLocal<PacketBuffer> encodeBuffer = ThreadLocal.withInitial(() -> new PacketBuffer(Unpooled.buffer()));
 
     public static FMLEventChannel channel;
 
@@ -76,17 +78,41 @@ public class NetworkHandler {
     public static void init() {
         channel = NetworkRegistry.INSTANCE.newEventDrivenChannel(GTValues.MODID);
         channel.register(new NetworkHandler());
+        registerPackets();
+
+        registerServerExecutor(PacketUIClientAction.class, (packet, handler) -> {
+            Container openContainer = handler.player.openContainer;
+            PacketBuffer buffer = packet.updateData;
+            try {
+                if(openContainer instanceof ModularUIContainer &&
+                    openContainer.windowId == packet.windowId) {
+                    ModularUI modularUI = ((ModularUIContainer) openContainer).getModularUI();
+                    modularUI.guiWidgets.get(packet.widgetId).handleClientAction(buffer.readInt(), buffer);
+                }
+            } finally {
+                buffer.release();
+            }
+        });
+
+        if (FMLCommonHandler.instance().getSide().isClient()) {
+            initClient();
+        }
+
+    }
 
+    /**
+     * Registers codecs of all packets. Doesn't depend on network channel, so codecs can be used without it
+     */
+    static void registerPackets() {
         registerPacket(1, PacketUIOpen.class, new PacketCodec<>(
             (packet, buf) -> {
                 buf.writeInt(packet.uiFactoryId);
-                buf.writeInt(packet.serializedHolder.readableBytes());
-                buf.writeBytes(packet.serializedHolder);
+                writePayload(buf, packet.serializedHolder);
                 buf.writeInt(packet.windowId);
             },
             (buf) -> new PacketUIOpen(
                 buf.readInt(),
-                new PacketBuffer(buf.readBytes(buf.readInt())),
+                readPayload(buf),
                 buf.readInt()
             )
         ));
@@ -94,14 +120,11 @@ public class NetworkHandler {
         registerPacket(2, PacketUIWidgetUpdate.class, new PacketCodec<>(
             (packet, buf) -> {
                 buf.writeInt(packet.windowId);
-                buf.writeInt(packet.widgetId);
-                buf.writeInt(packet.updateData.readableBytes());
-                buf.writeBytes(packet.updateData);
+                writePayload(buf, packet.updateData);
             },
             (buf) -> new PacketUIWidgetUpdate(
                 buf.readInt(),
-                buf.readInt(),
-                new PacketBuffer(buf.readBytes(buf.readInt()))
+                readPayload(buf)
             )
         ));
 
@@ -109,41 +132,60 @@ public class NetworkHandler {
             (packet, buf) -> {
                 buf.writeInt(packet.windowId);
                 buf.writeInt(packet.widgetId);
-                buf.writeInt(packet.updateData.readableBytes());
-                buf.writeBytes(packet.updateData);
+                writePayload(buf, packet.updateData);
             },
             (buf) -> new PacketUIClientAction(
                 buf.readInt(),
                 buf.readInt(),
-                new PacketBuffer(buf.readBytes(buf.readInt()))
+                readPayload(buf)
             )
         ));
 
-        registerServerExecutor(PacketUIClientAction.class, (packet, handler) -> {
-            Container openContainer = handler.player.openContainer;
-            if(openContainer instanceof ModularUIContainer &&
-                openContainer.windowId == packet.windowId) {
-                ModularUI modularUI = ((ModularUIContainer) openContainer).getModularUI();
-                PacketBuffer buffer = packet.updateData;
-                modularUI.guiWidgets.get(packet.widgetId).handleClientAction(buffer.readInt(), buffer);
-            }
-        });
-
-        if (FMLCommonHandler.instance().getSide().isClient()) {
-            initClient();
-        }
-
+        registerPacket(4, PacketMetaTileEntityUpdate.class, new PacketCodec<>(
+            (packet, buf) -> {
+                buf.writeInt(packet.dimension);
+                buf.writeBlockPos(packet.pos);
+                writePayload(buf, packet.updateData);
+            },
+            (buf) -> new PacketMetaTileEntityUpdate(
+                buf.readInt(),
+                buf.readBlockPos(),
+                readPayload(buf)
+            )
+        ));
     }
 
     @SideOnly(Side.CLIENT)
     private static void initClient() {
         registerClientExecutor(PacketUIOpen.class, (packet, handler) -> {
             UIFactory<?> uiFactory = UIFactory.FACTORY_REGISTRY.getObjectById(packet.uiFactoryId);
-            uiFactory.initClientUI(packet.serializedHolder, packet.windowId);
+            try {
+                uiFactory.initClientUI(packet.serializedHolder, packet.windowId);
+            } finally {
+                packet.serializedHolder.release();
+            }
         });
         registerClientExecutor(PacketUIWidgetUpdate.class, (packet, handler) -> {
            ModularUIGui.queuingWidgetUpdates.add(packet);
         });
+        //packets are handled on network thread, but tile entities can only be accessed from main thread
+        registerClientExecutor(PacketMetaTileEntityUpdate.class, (packet, handler) ->
+            Minecraft.getMinecraft().addScheduledTask(() -> handleMetaTileEntityUpdate(packet)));
+    }
+
+    @SideOnly(Side.CLIENT)
+    private static void handleMetaTileEntityUpdate(PacketMetaTileEntityUpdate packet) {
+        World world = Minecraft.getMinecraft().world;
+        try {
+            if(world == null || world.provider.getDimension() != packet.dimension || !world.isBlockLoaded(packet.pos))
+                return;
+            TileEntity tileEntity = world.getTileEntity(packet.pos);
+            if(tileEntity instanceof MetaTileEntityHolder) {
+                ((MetaTileEntityHolder) tileEntity).receiveCustomData(packet.updateData);
+            }
+        } finally {
+            packet.updateData.release();
+        }
     }
 
     public static <T extends Packet> void registerPacket(int packetId, Class<T> packetClass, PacketCodec<T> codec) {
@@ -153,6 +195,9 @@ public class NetworkHandler {
 
     @SideOnly(Side.CLIENT)
     public static <T extends Packet> void registerClientExecutor(Class<T> packet, PacketExecutor<T, NetHandlerPlayClient> executor) {
+        if(clientExecutors == null) {
+            clientExecutors = new HashMap<>();
+        }
         clientExecutors.put(packet, executor);
     }
 
@@ -163,10 +208,32 @@ public class NetworkHandler {
     @SuppressWarnings("unchecked")
     public static FMLProxyPacket packet2proxy(Packet packet) {
         PacketCodec<Packet> codec = (PacketCodec<Packet>) codecMap.get(packet.getClass());
-        PacketBuffer buf = new PacketBuffer(Unpooled.buffer());
+        PacketBuffer buf = encodeBuffer.get();
+        buf.clear();
         buf.writeInt(packetMap.getId(packet.getClass()));
         codec.encoder.encode(packet, buf);
-        return new FMLProxyPacket(buf, GTValues.MODID);
+        //proxy packet payload is shared between all receivers and kept by forge after sending,
+        //so it can't be returned to buffer pool and is allocated on heap
+        ByteBuf payload = Unpooled.buffer(buf.readableBytes(), buf.readableBytes());
+        payload.writeBytes(buf);
+        if(buf.capacity() > MAX_ENCODE_BUFFER_CAPACITY) {
+            //do not keep buffer grown by single big packet around forever
+            encodeBuffer.remove();
+        }
+        return new FMLProxyPacket(new PacketBuffer(payload), GTValues.MODID);
+    }
+
+    private static void writePayload(PacketBuffer buf, PacketBuffer payload) {
+        buf.writeInt(payload.readableBytes());
+        buf.writeBytes(payload, payload.readerIndex(), payload.readableBytes());
+    }
+
+    /**
+     * Reads payload written by {@link #writePayload} as retained slice of received buffer instead of copying it,
+     * so it stays valid after received buffer is released. Executor of packet must release it when it's done with it
+     */
+    private static PacketBuffer readPayload(PacketBuffer buf) {
+        return new PacketBuffer(buf.readRetainedSlice(buf.readInt()));
     }
 
     @SuppressWarnings("unchecked")
@@ -0,0 +1,18 @@
+package gregtech.api.net;
+
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.util.math.BlockPos;
+
+public class PacketMetaTileEntityUpdate implements NetworkHandler.Packet {
+
+    public final int dimension;
+    public final BlockPos pos;
+    public final PacketBuffer updateData;
+
+    public PacketMetaTileEntityUpdate(int dimension, BlockPos pos, PacketBuffer updateData) {
+        this.dimension = dimension;
+        this.pos = pos;
+        this.updateData = updateData;
+    }
+
+}
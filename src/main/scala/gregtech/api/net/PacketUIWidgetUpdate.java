@@ -5,12 +5,11 @@ import net.minecraft.network.PacketBuffer;
 public class PacketUIWidgetUpdate implements NetworkHandler.Packet {
 
     public final int windowId;
-    public final int widgetId;
+    //updates of all widgets of the window, each one prefixed with widget id and update length
     public final PacketBuffer updateData;
 
-    public PacketUIWidgetUpdate(int windowId, int widgetId, PacketBuffer updateData) {
+    public PacketUIWidgetUpdate(int windowId, PacketBuffer updateData) {
         this.windowId = windowId;
-        this.widgetId = widgetId;
         this.updateData = updateData;
     }
 
@@ -5,13 +5,24 @@ import gregtech.api.unification.ore.OrePrefix;
 import gregtech.api.unification.stack.UnificationEntry;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.crafting.Ingredient;
+import net.minecraft.util.NonNullList;
+import net.minecraftforge.fml.relauncher.ReflectionHelper;
+import net.minecraftforge.oredict.OreDictionary;
 import net.minecraftforge.oredict.OreIngredient;
 
+import javax.annotation.Nullable;
 import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 public class CountableIngredient {
 
+    //ore dictionary keeps single list per ore name, which is also shared with OreIngredient created from that name
+    private static final Map<List<ItemStack>, String> oreNamesByOreList = new IdentityHashMap<>();
+    private static int indexedOreNames = 0;
+
     public static CountableIngredient from(ItemStack stack) {
         return new CountableIngredient(Ingredient.fromStacks(stack), stack.getCount());
     }
@@ -21,11 +32,11 @@ public class CountableIngredient {
     }
 
     public static CountableIngredient from(String oredict) {
-        return new CountableIngredient(new OreIngredient(oredict), 1);
+        return from(oredict, 1);
     }
 
     public static CountableIngredient from(String oredict, int count) {
-        return new CountableIngredient(new OreIngredient(oredict), count);
+        return new CountableIngredient(new OreIngredient(oredict), count, oredict);
     }
 
     public static CountableIngredient from(OrePrefix prefix, Material material) {
@@ -33,15 +44,26 @@ public class CountableIngredient {
     }
 
     public static CountableIngredient from(OrePrefix prefix, Material material, int count) {
-        return new CountableIngredient(new OreIngredient(new UnificationEntry(prefix, material).toString()), count);
+        return from(new UnificationEntry(prefix, material).toString(), count);
     }
 
     private Ingredient ingredient;
     private int count;
+    @Nullable
+    private String oreDictName;
 
     public CountableIngredient(Ingredient ingredient, int count) {
         this.ingredient = ingredient;
         this.count = count;
+        if(ingredient instanceof OreIngredient) {
+            this.oreDictName = findOreDictName((OreIngredient) ingredient);
+        }
+    }
+
+    private CountableIngredient(OreIngredient ingredient, int count, String oreDictName) {
+        this.ingredient = ingredient;
+        this.count = count;
+        this.oreDictName = oreDictName;
     }
 
     public Ingredient getIngredient() {
@@ -52,6 +74,27 @@ public class CountableIngredient {
         return count;
     }
 
+    /**
+     * @return ore dictionary name this ingredient was created from or ore name of given {@link OreIngredient},
+     * or null if it is not backed by ore dictionary
+     */
+    @Nullable
+    public String getOreDictName() {
+        return oreDictName;
+    }
+
+    @Nullable
+    private static String findOreDictName(OreIngredient ingredient) {
+        NonNullList<ItemStack> ores = ReflectionHelper.getPrivateValue(OreIngredient.class, ingredient, "ores");
+        //ore names are never removed and are ordered by ore id, so only names registered since last lookup are indexed
+        String[] oreNames = OreDictionary.getOreNames();
+        for(int i = indexedOreNames; i < oreNames.length; i++) {
+            oreNamesByOreList.put(OreDictionary.getOres(oreNames[i]), oreNames[i]);
+        }
+        indexedOreNames = oreNames.length;
+        return oreNamesByOreList.get(ores);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -96,27 +96,50 @@ public class Recipe {
 		this.needsEmptyOutput = needsEmptyOutput;
 	}
 
+	/**
+	 * Thread-confined inputs accessor with scratch buffers for amounts left in item slots and fluid tanks during matching,
+	 * so matching doesn't allocate anything on hot paths
+	 */
+	private static final ThreadLocal<RecipeMatchInputs> MATCH_INPUTS = ThreadLocal.withInitial(RecipeMatchInputs::new);
+
 	public boolean matches(boolean consumeIfSuccessful, boolean dontCheckStackSizes, IItemHandlerModifiable inputs, IMultipleTankHandler fluidInputs) {
-		return matches(consumeIfSuccessful, dontCheckStackSizes, GTUtility.itemHandlerToList(inputs), GTUtility.fluidHandlerToList(fluidInputs));
+	    RecipeMatchInputs matchInputs = MATCH_INPUTS.get().set(inputs, fluidInputs);
+	    try {
+	        return matches(consumeIfSuccessful, matchInputs);
+        } finally {
+	        matchInputs.clear();
+        }
 	}
 
 	public boolean matches(boolean consumeIfSuccessful, boolean dontCheckStackSizes, List<ItemStack> inputs, List<FluidStack> fluidInputs) {
-	    int[] fluidAmountInTank = new int[fluidInputs.size()];
-	    int[] itemAmountInSlot = new int[inputs.size()];
+        RecipeMatchInputs matchInputs = MATCH_INPUTS.get().set(inputs, fluidInputs);
+        try {
+            return matches(consumeIfSuccessful, matchInputs);
+        } finally {
+            matchInputs.clear();
+        }
+	}
+
+	private boolean matches(boolean consumeIfSuccessful, RecipeMatchInputs inputs) {
+	    int tanks = inputs.getTanks();
+	    int slots = inputs.getSlots();
+	    int[] fluidAmountInTank = inputs.getFluidAmountBuffer(tanks);
+	    int[] itemAmountInSlot = inputs.getItemAmountBuffer(slots);
 
-        for(int i = 0; i < fluidAmountInTank.length; i++) {
-            FluidStack fluidInTank = fluidInputs.get(i);
+        for(int i = 0; i < tanks; i++) {
+            FluidStack fluidInTank = inputs.getFluidInTank(i);
             fluidAmountInTank[i] = fluidInTank == null ? 0 : fluidInTank.amount;
         }
-        for(int i = 0; i < itemAmountInSlot.length; i++) {
-            ItemStack itemInSlot = inputs.get(i);
+        for(int i = 0; i < slots; i++) {
+            ItemStack itemInSlot = inputs.getStackInSlot(i);
             itemAmountInSlot[i] = itemInSlot.isEmpty() ? 0 : itemInSlot.getCount();
         }
 
-        for (FluidStack fluid : this.fluidInputs) {
+        for (int j = 0; j < this.fluidInputs.size(); j++) {
+            FluidStack fluid = this.fluidInputs.get(j);
             int fluidAmount = fluid.amount;
-            for (int i = 0; i < fluidInputs.size(); i++) {
-                FluidStack tankFluid = fluidInputs.get(i);
+            for (int i = 0; i < tanks; i++) {
+                FluidStack tankFluid = inputs.getFluidInTank(i);
                 if (tankFluid == null || !tankFluid.isFluidEqual(fluid))
                     continue;
                 int fluidAmountToConsume = Math.min(fluidAmountInTank[i], fluidAmount);
@@ -128,10 +151,11 @@ public class Recipe {
                 return false;
         }
 
-        for(CountableIngredient ingredient : this.inputs) {
+        for (int j = 0; j < this.inputs.size(); j++) {
+            CountableIngredient ingredient = this.inputs.get(j);
             int ingredientAmount = ingredient.getCount();
-            for (int i = 0; i < inputs.size(); i++) {
-                ItemStack inputStack = inputs.get(i);
+            for (int i = 0; i < slots; i++) {
+                ItemStack inputStack = inputs.getStackInSlot(i);
                 if (inputStack.isEmpty() || !ingredient.getIngredient().apply(inputStack))
                     continue;
                 int itemAmountToConsume = Math.min(itemAmountInSlot[i], ingredientAmount);
@@ -144,21 +168,21 @@ public class Recipe {
         }
 
         if(consumeIfSuccessful) {
-            for(int i = 0; i < fluidAmountInTank.length; i++) {
-                FluidStack fluidStack = fluidInputs.get(i);
+            for(int i = 0; i < tanks; i++) {
+                FluidStack fluidStack = inputs.getFluidInTank(i);
                 int fluidAmount = fluidAmountInTank[i];
                 if(fluidStack == null || fluidStack.amount == fluidAmount)
                     continue;
                 fluidStack.amount = fluidAmount;
                 if(fluidStack.amount == 0)
-                    fluidInputs.set(i, null);
+                    inputs.emptyTank(i);
             }
-            for(int i = 0; i < itemAmountInSlot.length; i++) {
-                ItemStack itemInSlot = inputs.get(i);
+            for(int i = 0; i < slots; i++) {
+                ItemStack itemInSlot = inputs.getStackInSlot(i);
                 int itemAmount = itemAmountInSlot[i];
                 if(itemInSlot.isEmpty() || itemInSlot.getCount() == itemAmount)
                     continue;
-                itemInSlot.setCount(itemAmountInSlot[i]);
+                itemInSlot.setCount(itemAmount);
             }
         }
 
@@ -0,0 +1,208 @@
+package gregtech.api.recipes;
+
+import gnu.trove.list.array.TIntArrayList;
+import gnu.trove.list.array.TLongArrayList;
+import gnu.trove.map.TIntLongMap;
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.hash.TIntLongHashMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
+import gnu.trove.procedure.TIntLongProcedure;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.Fluid;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.oredict.OreDictionary;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Inverted index of recipe inputs used by {@link RecipeMap} to narrow down recipe search.<p>
+ *
+ * Every required item and fluid input of the recipe gets its own bit in recipe input mask,
+ * and recipe is added to posting list of every item, ore dictionary entry and fluid that can satisfy that input.
+ * On lookup, postings of all distinct machine inputs are merged, and only recipes which have all their
+ * input bits set are checked with {@link Recipe#matches}, so lookup cost depends on amount of
+ * machine inputs rather than on amount of recipes in the map.<p>
+ *
+ * Ore dictionary ingredients are indexed by ore id, so ores registered after recipe are still found.
+ * Item stacks with {@link OreDictionary#WILDCARD_VALUE} damage are indexed separately and are checked for every damage value.
+ * Recipes which cannot be indexed (custom ingredients without matching stacks, recipes without
+ * required inputs or with too many inputs) are always checked.
+ */
+public class RecipeInputIndex {
+
+    private static final int MAX_INDEXED_INPUTS = 64;
+    //search collections are reused between lookups, recipes can be searched from client and server threads
+    private static final ThreadLocal<SearchBuffers> SEARCH_BUFFERS = ThreadLocal.withInitial(SearchBuffers::new);
+
+    private final List<Recipe> indexedRecipes = new ArrayList<>();
+    private final TLongArrayList requiredMasks = new TLongArrayList();
+    private final List<Recipe> unindexedRecipes = new ArrayList<>();
+
+    private final Map<Item, TIntObjectMap<TLongArrayList>> itemPostings = new HashMap<>();
+    private final TIntObjectMap<TLongArrayList> orePostings = new TIntObjectHashMap<>();
+    private final Map<Fluid, TLongArrayList> fluidPostings = new HashMap<>();
+
+    public void addRecipe(Recipe recipe) {
+        List<CountableIngredient> inputs = recipe.getInputs();
+        List<FluidStack> fluidInputs = recipe.getFluidInputs();
+        if (inputs.size() + fluidInputs.size() > MAX_INDEXED_INPUTS || !canBeIndexed(inputs)) {
+            unindexedRecipes.add(recipe);
+            return;
+        }
+        int recipeIndex = indexedRecipes.size();
+        long requiredMask = 0L;
+        int inputBit = 0;
+
+        for (CountableIngredient ingredient : inputs) {
+            //ingredients with zero count are not required to be present by Recipe.matches
+            if (ingredient.getCount() > 0) {
+                long posting = makePosting(recipeIndex, inputBit);
+                requiredMask |= 1L << inputBit;
+                addIngredientPostings(ingredient, posting);
+            }
+            inputBit++;
+        }
+        for (FluidStack fluidStack : fluidInputs) {
+            if (fluidStack.amount > 0) {
+                long posting = makePosting(recipeIndex, inputBit);
+                requiredMask |= 1L << inputBit;
+                fluidPostings.computeIfAbsent(fluidStack.getFluid(), k -> new TLongArrayList(1)).add(posting);
+            }
+            inputBit++;
+        }
+
+        if (requiredMask == 0L) {
+            unindexedRecipes.add(recipe);
+            return;
+        }
+        indexedRecipes.add(recipe);
+        requiredMasks.add(requiredMask);
+    }
+
+    /**
+     * @return first recipe matching given inputs, or null if there is no such recipe
+     */
+    @Nullable
+    public Recipe findRecipe(List<ItemStack> inputs, List<FluidStack> fluidInputs) {
+        SearchBuffers searchBuffers = SEARCH_BUFFERS.get();
+        TIntLongMap matchedInputs = searchBuffers.matchedInputs;
+        TIntArrayList candidates = searchBuffers.candidates;
+        matchedInputs.clear();
+        candidates.resetQuick();
+        for (ItemStack itemStack : inputs) {
+            if (itemStack.isEmpty()) continue;
+            collectItemPostings(itemStack, matchedInputs);
+        }
+        for (FluidStack fluidStack : fluidInputs) {
+            if (fluidStack == null) continue;
+            mergePostings(fluidPostings.get(fluidStack.getFluid()), matchedInputs);
+        }
+
+        searchBuffers.requiredMasks = requiredMasks;
+        matchedInputs.forEachEntry(searchBuffers);
+        //check in registration order to keep lookup result deterministic
+        candidates.sort();
+        for (int i = 0; i < candidates.size(); i++) {
+            Recipe recipe = indexedRecipes.get(candidates.get(i));
+            if (recipe.matches(false, false, inputs, fluidInputs)) {
+                return recipe;
+            }
+        }
+        for (Recipe recipe : unindexedRecipes) {
+            if (recipe.matches(false, false, inputs, fluidInputs)) {
+                return recipe;
+            }
+        }
+        return null;
+    }
+
+    private void collectItemPostings(ItemStack itemStack, TIntLongMap matchedInputs) {
+        TIntObjectMap<TLongArrayList> damagePostings = itemPostings.get(itemStack.getItem());
+        if (damagePostings != null) {
+            mergePostings(damagePostings.get(itemStack.getMetadata()), matchedInputs);
+            mergePostings(damagePostings.get(OreDictionary.WILDCARD_VALUE), matchedInputs);
+        }
+        if (!orePostings.isEmpty()) {
+            for (int oreId : OreDictionary.getOreIDs(itemStack)) {
+                mergePostings(orePostings.get(oreId), matchedInputs);
+            }
+        }
+    }
+
+    private static void mergePostings(@Nullable TLongArrayList postings, TIntLongMap matchedInputs) {
+        if (postings == null) return;
+        for (int i = 0; i < postings.size(); i++) {
+            long posting = postings.get(i);
+            int recipeIndex = (int) (posting >>> 6);
+            long inputMask = 1L << (posting & 63);
+            matchedInputs.put(recipeIndex, matchedInputs.get(recipeIndex) | inputMask);
+        }
+    }
+
+    private void addIngredientPostings(CountableIngredient ingredient, long posting) {
+        String oreDictName = ingredient.getOreDictName();
+        if (oreDictName != null) {
+            int oreId = OreDictionary.getOreID(oreDictName);
+            TLongArrayList postings = orePostings.get(oreId);
+            if (postings == null) {
+                postings = new TLongArrayList(1);
+                orePostings.put(oreId, postings);
+            }
+            postings.add(posting);
+            return;
+        }
+        for (ItemStack itemStack : ingredient.getIngredient().getMatchingStacks()) {
+            if (itemStack.isEmpty()) continue;
+            TIntObjectMap<TLongArrayList> damagePostings = itemPostings.computeIfAbsent(itemStack.getItem(), k -> new TIntObjectHashMap<>());
+            TLongArrayList postings = damagePostings.get(itemStack.getMetadata());
+            if (postings == null) {
+                postings = new TLongArrayList(1);
+                damagePostings.put(itemStack.getMetadata(), postings);
+            }
+            //same ingredient can list same stack multiple times (e.g. with different NBT)
+            if (postings.isEmpty() || postings.get(postings.size() - 1) != posting) {
+                postings.add(posting);
+            }
+        }
+    }
+
+    private static boolean canBeIndexed(List<CountableIngredient> inputs) {
+        for (CountableIngredient ingredient : inputs) {
+            if (ingredient.getCount() > 0 && ingredient.getOreDictName() == null &&
+                ingredient.getIngredient().getMatchingStacks().length == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long makePosting(int recipeIndex, int inputBit) {
+        return ((long) recipeIndex << 6) | inputBit;
+    }
+
+    /**
+     * Per-thread collections used by recipe search, which also collects
+     * recipes with all required inputs matched into candidates list
+     */
+    private static final class SearchBuffers implements TIntLongProcedure {
+
+        private final TIntLongMap matchedInputs = new TIntLongHashMap();
+        private final TIntArrayList candidates = new TIntArrayList();
+        private TLongArrayList requiredMasks;
+
+        @Override
+        public boolean execute(int recipeIndex, long matchedMask) {
+            long requiredMask = requiredMasks.get(recipeIndex);
+            if ((matchedMask & requiredMask) == requiredMask) {
+                candidates.add(recipeIndex);
+            }
+            return true;
+        }
+    }
+
+}
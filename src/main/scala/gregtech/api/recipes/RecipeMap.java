@@ -44,6 +44,7 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
 
     private final Map<Fluid, Collection<Recipe>> recipeFluidMap = new HashMap<>();
     private final Collection<Recipe> recipeList;
+    private final RecipeInputIndex recipeInputIndex = new RecipeInputIndex();
 
 	public RecipeMap(String unlocalizedName,
                      int minInputs, int maxInputs, int minOutputs, int maxOutputs,
@@ -108,7 +109,9 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
 				return;
 		}
 		Recipe recipe = validationResult.getResult();
-		recipeList.add(recipe);
+		if (!recipeList.add(recipe))
+		    return;
+		recipeInputIndex.addRecipe(recipe);
 
 		for (FluidStack fluid : recipe.getFluidInputs()) {
 			recipeFluidMap.computeIfAbsent(fluid.getFluid(), k -> new HashSet<>(1)).add(recipe);
@@ -138,38 +141,12 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
         if (minInputs > 0 && GTUtility.amountOfNonEmptyStacks(inputs) < minInputs) {
             return null;
         }
-        if (maxInputs > 0) {
-            return findByInputs(voltage, inputs, fluidInputs);
-        } else {
-            return findByFluidInputs(voltage, inputs, fluidInputs);
-        }
-    }
-
-    @Nullable
-    private Recipe findByFluidInputs(long voltage, List<ItemStack> inputs, List<FluidStack> fluidInputs) {
-        for (FluidStack fluid : fluidInputs) {
-            if (fluid == null) continue;
-            Collection<Recipe> recipes = recipeFluidMap.get(fluid.getFluid());
-            if (recipes == null) continue;
-            for (Recipe tmpRecipe : recipes) {
-                if (tmpRecipe.matches(false, false, inputs, fluidInputs)) {
-                    return voltage * amperage >= tmpRecipe.getEUt() ? tmpRecipe : null;
-                }
-            }
-        }
-        return null;
+        Recipe recipe = recipeInputIndex.findRecipe(inputs, fluidInputs);
+        if (recipe == null)
+            return null;
+        return voltage * amperage >= recipe.getEUt() ? recipe : null;
     }
 
-	@Nullable
-	private Recipe findByInputs(long voltage, List<ItemStack> inputs, List<FluidStack> fluidInputs) {
-        for (Recipe recipe : recipeList) {
-            if (recipe.matches(false, false, inputs, fluidInputs)) {
-                return voltage * amperage >= recipe.getEUt() ? recipe : null;
-            }
-        }
-		return null;
-	}
-
 	//this DOES NOT add machine control widgets or binds player inventory
 	public ModularUI.Builder createUITemplate(DoubleSupplier progressSupplier, IItemHandlerModifiable importItems, IItemHandlerModifiable exportItems, FluidTankList importFluids, FluidTankList exportFluids) {
         ModularUI.Builder builder = ModularUI.defaultBuilder();
@@ -0,0 +1,96 @@
+package gregtech.api.recipes;
+
+import gregtech.api.capability.IMultipleTankHandler;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fluids.FluidTank;
+import net.minecraftforge.fluids.IFluidTank;
+import net.minecraftforge.items.IItemHandlerModifiable;
+
+import javax.annotation.Nullable;
+import java.util.List;
+
+/**
+ * Gives {@link Recipe} matching same access to inputs stored either in lists or in item and fluid handlers.<p>
+ *
+ * Instances are thread-confined and reused between matches, together with scratch arrays
+ * holding amounts left in every slot and tank, so matching doesn't allocate anything.
+ */
+final class RecipeMatchInputs {
+
+    private List<ItemStack> itemList;
+    private IItemHandlerModifiable itemHandler;
+    private List<FluidStack> fluidList;
+    private IMultipleTankHandler fluidHandler;
+
+    private int[] itemAmountInSlot = new int[16];
+    private int[] fluidAmountInTank = new int[9];
+
+    RecipeMatchInputs set(List<ItemStack> itemList, List<FluidStack> fluidList) {
+        this.itemList = itemList;
+        this.fluidList = fluidList;
+        return this;
+    }
+
+    RecipeMatchInputs set(IItemHandlerModifiable itemHandler, IMultipleTankHandler fluidHandler) {
+        this.itemHandler = itemHandler;
+        this.fluidHandler = fluidHandler;
+        return this;
+    }
+
+    /**
+     * Drops references to inputs, so they aren't kept alive by thread after matching
+     */
+    void clear() {
+        this.itemList = null;
+        this.itemHandler = null;
+        this.fluidList = null;
+        this.fluidHandler = null;
+    }
+
+    int getSlots() {
+        return itemList != null ? itemList.size() : itemHandler.getSlots();
+    }
+
+    ItemStack getStackInSlot(int slot) {
+        return itemList != null ? itemList.get(slot) : itemHandler.getStackInSlot(slot);
+    }
+
+    int getTanks() {
+        return fluidList != null ? fluidList.size() : fluidHandler.getTanks();
+    }
+
+    @Nullable
+    FluidStack getFluidInTank(int tank) {
+        return fluidList != null ? fluidList.get(tank) : fluidHandler.getTankAt(tank).getFluid();
+    }
+
+    /**
+     * Removes fluid stack which amount was consumed to zero from tank
+     */
+    void emptyTank(int tank) {
+        if(fluidList != null) {
+            fluidList.set(tank, null);
+            return;
+        }
+        IFluidTank fluidTank = fluidHandler.getTankAt(tank);
+        if(fluidTank instanceof FluidTank) {
+            ((FluidTank) fluidTank).setFluid(null);
+        }
+    }
+
+    int[] getItemAmountBuffer(int slots) {
+        if(itemAmountInSlot.length < slots) {
+            this.itemAmountInSlot = new int[Math.max(slots, itemAmountInSlot.length * 2)];
+        }
+        return itemAmountInSlot;
+    }
+
+    int[] getFluidAmountBuffer(int tanks) {
+        if(fluidAmountInTank.length < tanks) {
+            this.fluidAmountInTank = new int[Math.max(tanks, fluidAmountInTank.length * 2)];
+        }
+        return fluidAmountInTank;
+    }
+
+}
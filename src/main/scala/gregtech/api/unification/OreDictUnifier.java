@@ -16,7 +16,6 @@ import net.minecraftforge.oredict.OreDictionary.OreRegisterEvent;
 
 import javax.annotation.Nullable;
 import java.util.*;
-import java.util.stream.Collectors;
 
 import static gregtech.api.GTValues.M;
 
@@ -24,19 +23,20 @@ public class OreDictUnifier {
 
     private OreDictUnifier() {}
 
-    private static final HashMap<SimpleItemStack, ItemMaterialInfo> materialUnificationInfo = new WildcardAwareHashMap<>();
-    private static final HashMap<SimpleItemStack, UnificationEntry> stackUnificationInfo = new WildcardAwareHashMap<>();
+    private static final WildcardAwareItemMap<ItemMaterialInfo> materialUnificationInfo = new WildcardAwareItemMap<>();
+    private static final WildcardAwareItemMap<UnificationEntry> stackUnificationInfo = new WildcardAwareItemMap<>();
+    //items of every unification entry are kept sorted by mod id, so first item is preferred unification target
     private static final HashMap<UnificationEntry, ArrayList<SimpleItemStack>> stackUnificationItems = new HashMap<>();
-    private static final HashMap<SimpleItemStack, Set<String>> stackOreDictName = new WildcardAwareHashMap<>();
+    private static final WildcardAwareItemMap<Set<String>> stackOreDictName = new WildcardAwareItemMap<>();
 
     public static void registerOre(ItemStack itemStack, MaterialStack component, MaterialStack... byproducts) {
         if (itemStack.isEmpty()) return;
-        materialUnificationInfo.put(new SimpleItemStack(itemStack), new ItemMaterialInfo(component, byproducts));
+        materialUnificationInfo.put(itemStack, new ItemMaterialInfo(component, byproducts));
     }
 
     public static void registerOre(ItemStack itemStack, ItemMaterialInfo materialInfo) {
         if (itemStack.isEmpty()) return;
-        materialUnificationInfo.put(new SimpleItemStack(itemStack), materialInfo);
+        materialUnificationInfo.put(itemStack, materialInfo);
     }
 
     public static void registerOre(ItemStack itemStack, OrePrefix orePrefix, @Nullable Material material) {
@@ -61,10 +61,10 @@ public class OreDictUnifier {
 
     @SubscribeEvent
     public static void onItemRegistration(OreRegisterEvent event) {
-        SimpleItemStack simpleItemStack = new SimpleItemStack(event.getOre());
+        ItemStack itemStack = event.getOre();
         String oreName = event.getName();
         //cache this registration by name
-        stackOreDictName.computeIfAbsent(simpleItemStack, k -> new HashSet<>()).add(oreName);
+        stackOreDictName.computeIfAbsent(itemStack, HashSet::new).add(oreName);
         //and try to transform registration name into OrePrefix + Material pair
         OrePrefix orePrefix = OrePrefix.getPrefix(oreName);
         Material material = null;
@@ -103,45 +103,52 @@ public class OreDictUnifier {
         //finally register item
         if(orePrefix != null && (material != null || orePrefix.isSelfReferencing)) {
             UnificationEntry unificationEntry = new UnificationEntry(orePrefix, material);
-            stackUnificationInfo.put(simpleItemStack, unificationEntry);
-            stackUnificationItems.computeIfAbsent(unificationEntry, p -> new ArrayList<>()).add(simpleItemStack);
+            stackUnificationInfo.put(itemStack, unificationEntry);
+            addUnificationItem(stackUnificationItems.computeIfAbsent(unificationEntry, p -> new ArrayList<>()), new SimpleItemStack(itemStack));
             orePrefix.processOreRegistration(material);
         }
     }
 
+    private static void addUnificationItem(ArrayList<SimpleItemStack> items, SimpleItemStack itemStack) {
+        //insert after all items with same or lower mod id, matching stable sort of items in registration order
+        String modId = itemStack.item.delegate.name().getResourceDomain();
+        int insertIndex = items.size();
+        while(insertIndex > 0 && items.get(insertIndex - 1).item.delegate.name().getResourceDomain().compareTo(modId) > 0) {
+            insertIndex--;
+        }
+        items.add(insertIndex, itemStack);
+    }
+
     public static Set<String> getOreDictionaryNames(ItemStack itemStack) {
         if(itemStack.isEmpty()) return null;
-        SimpleItemStack simpleItemStack = new SimpleItemStack(itemStack);
-        if(stackOreDictName.containsKey(simpleItemStack))
-            return Collections.unmodifiableSet(stackOreDictName.get(simpleItemStack));
+        Set<String> oreDictNames = stackOreDictName.get(itemStack);
+        if(oreDictNames != null)
+            return Collections.unmodifiableSet(oreDictNames);
         return Collections.emptySet();
     }
 
     @Nullable
     public static MaterialStack getMaterial(ItemStack itemStack) {
         if(itemStack.isEmpty()) return null;
-        SimpleItemStack simpleItemStack = new SimpleItemStack(itemStack);
-        UnificationEntry entry = stackUnificationInfo.get(simpleItemStack);
+        UnificationEntry entry = stackUnificationInfo.get(itemStack);
         if(entry != null && entry.material != null) return new MaterialStack(entry.material, entry.orePrefix.materialAmount);
-        ItemMaterialInfo info = materialUnificationInfo.get(simpleItemStack);
+        ItemMaterialInfo info = materialUnificationInfo.get(itemStack);
         return info == null ? null : info.material.copy();
     }
 
     @Nullable
     public static ImmutableList<MaterialStack> getByProducts(ItemStack itemStack) {
         if(itemStack.isEmpty()) return null;
-        SimpleItemStack simpleItemStack = new SimpleItemStack(itemStack);
-        UnificationEntry entry = stackUnificationInfo.get(simpleItemStack);
+        UnificationEntry entry = stackUnificationInfo.get(itemStack);
         if(entry != null && entry.material != null) return ImmutableList.of(new MaterialStack(entry.material, entry.orePrefix.materialAmount), entry.orePrefix.secondaryMaterial);
-        ItemMaterialInfo info = materialUnificationInfo.get(simpleItemStack);
+        ItemMaterialInfo info = materialUnificationInfo.get(itemStack);
         return info == null ? null : info.byProducts;
     }
 
     @Nullable
     public static OrePrefix getPrefix(ItemStack itemStack) {
         if(itemStack.isEmpty()) return null;
-        SimpleItemStack simpleItemStack = new SimpleItemStack(itemStack);
-        UnificationEntry entry = stackUnificationInfo.get(simpleItemStack);
+        UnificationEntry entry = stackUnificationInfo.get(itemStack);
         if(entry != null) return entry.orePrefix;
         return null;
     }
@@ -149,17 +156,16 @@ public class OreDictUnifier {
     @Nullable
     public static UnificationEntry getUnificationEntry(ItemStack itemStack) {
         if(itemStack.isEmpty()) return null;
-        return stackUnificationInfo.get(new SimpleItemStack(itemStack));
+        return stackUnificationInfo.get(itemStack);
     }
 
     public static ItemStack getUnificated(ItemStack itemStack) {
         if(itemStack.isEmpty()) return ItemStack.EMPTY;
         UnificationEntry unificationEntry = getUnificationEntry(itemStack);
-        if(unificationEntry == null || !stackUnificationItems.containsKey(unificationEntry) || !unificationEntry.orePrefix.isUnificationEnabled)
+        if(unificationEntry == null || !unificationEntry.orePrefix.isUnificationEnabled)
             return itemStack;
         ArrayList<SimpleItemStack> keys = stackUnificationItems.get(unificationEntry);
-        keys.sort(Comparator.comparing(a -> a.item.delegate.name().getResourceDomain()));
-        return keys.size() > 0 ? keys.get(0).asItemStack(itemStack.getCount()) : itemStack;
+        return keys != null && keys.size() > 0 ? keys.get(0).asItemStack(itemStack.getCount()) : itemStack;
     }
 
     public static ItemStack get(UnificationEntry unificationEntry) {
@@ -171,20 +177,19 @@ public class OreDictUnifier {
     }
 
     public static ItemStack get(OrePrefix orePrefix, Material material, int stackSize) {
-        UnificationEntry unificationEntry = new UnificationEntry(orePrefix, material);
-        if(!stackUnificationItems.containsKey(unificationEntry))
-            return ItemStack.EMPTY;
-        ArrayList<SimpleItemStack> keys = stackUnificationItems.get(unificationEntry);
-        keys.sort(Comparator.comparing(a -> a.item.delegate.name().getResourceDomain()));
-        return keys.size() > 0 ? keys.get(0).asItemStack(stackSize) : ItemStack.EMPTY;
+        ArrayList<SimpleItemStack> keys = stackUnificationItems.get(new UnificationEntry(orePrefix, material));
+        return keys != null && keys.size() > 0 ? keys.get(0).asItemStack(stackSize) : ItemStack.EMPTY;
     }
 
     public static List<ItemStack> getAll(UnificationEntry unificationEntry) {
-        if(!stackUnificationItems.containsKey(unificationEntry))
-            return Collections.emptyList();
         ArrayList<SimpleItemStack> keys = stackUnificationItems.get(unificationEntry);
-        keys.sort(Comparator.comparing(a -> a.item.delegate.name().getResourceDomain()));
-        return keys.stream().map(SimpleItemStack::asItemStack).collect(Collectors.toList());
+        if(keys == null)
+            return Collections.emptyList();
+        List<ItemStack> itemStacks = new ArrayList<>(keys.size());
+        for(SimpleItemStack key : keys) {
+            itemStacks.add(key.asItemStack());
+        }
+        return itemStacks;
     }
 
     public static ItemStack getDust(DustMaterial material, long materialAmount) {
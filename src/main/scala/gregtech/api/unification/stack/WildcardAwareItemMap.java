@@ -0,0 +1,68 @@
+package gregtech.api.unification.stack;
+
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
+import gregtech.api.GTValues;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Map with item and damage pair as key, which doesn't allocate key objects on lookup
+ * Values put with {@link GTValues#W} damage are kept in separate wildcard table,
+ * and are returned for any damage of the item which doesn't have it's own value
+ * Items are used as keys directly instead of their ids, because item ids can be remapped after values are put
+ * @param <V> value type
+ */
+public class WildcardAwareItemMap<V> {
+
+    private final Map<Item, TIntObjectMap<V>> damageValues = new HashMap<>();
+    private final Map<Item, V> wildcardValues = new HashMap<>();
+
+    @Nullable
+    public V get(ItemStack itemStack) {
+        return get(itemStack.getItem(), itemStack.getItemDamage());
+    }
+
+    @Nullable
+    public V get(Item item, int itemDamage) {
+        if(itemDamage != GTValues.W) {
+            TIntObjectMap<V> values = damageValues.get(item);
+            V resultValue = values == null ? null : values.get(itemDamage);
+            if(resultValue != null) return resultValue;
+        }
+        return wildcardValues.get(item);
+    }
+
+    public void put(ItemStack itemStack, V value) {
+        int itemDamage = itemStack.getItemDamage();
+        if(itemDamage == GTValues.W) {
+            wildcardValues.put(itemStack.getItem(), value);
+        } else {
+            damageValues.computeIfAbsent(itemStack.getItem(), k -> new TIntObjectHashMap<>()).put(itemDamage, value);
+        }
+    }
+
+    /**
+     * Returns value stored exactly for damage of given stack, without falling back to wildcard table,
+     * creating it with given supplier if it's absent
+     */
+    public V computeIfAbsent(ItemStack itemStack, Supplier<V> valueSupplier) {
+        int itemDamage = itemStack.getItemDamage();
+        if(itemDamage == GTValues.W) {
+            return wildcardValues.computeIfAbsent(itemStack.getItem(), k -> valueSupplier.get());
+        }
+        TIntObjectMap<V> values = damageValues.computeIfAbsent(itemStack.getItem(), k -> new TIntObjectHashMap<>());
+        V value = values.get(itemDamage);
+        if(value == null) {
+            value = valueSupplier.get();
+            values.put(itemDamage, value);
+        }
+        return value;
+    }
+
+}
@@ -28,6 +28,7 @@ import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraft.potion.Potion;
 import net.minecraft.potion.PotionEffect;
+import net.minecraft.util.EnumFacing;
 import net.minecraft.util.NonNullList;
 import net.minecraft.util.Tuple;
 import net.minecraft.util.math.BlockPos;
@@ -45,6 +46,7 @@ import net.minecraftforge.fml.relauncher.SideOnly;
 import net.minecraftforge.items.IItemHandler;
 import net.minecraftforge.items.IItemHandlerModifiable;
 
+import javax.annotation.Nullable;
 import java.awt.*;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
@@ -507,6 +509,21 @@ public class GTUtility {
         return replacement;
     }
 
+    /**
+     * @return side of given block which neighbour is located at, or null if positions aren't adjacent
+     */
+    @Nullable
+    public static EnumFacing getFacingToNeighbor(BlockPos pos, BlockPos neighbourPos) {
+        int offsetX = neighbourPos.getX() - pos.getX();
+        int offsetY = neighbourPos.getY() - pos.getY();
+        int offsetZ = neighbourPos.getZ() - pos.getZ();
+        for(EnumFacing facing : EnumFacing.VALUES) {
+            if(facing.getFrontOffsetX() == offsetX && facing.getFrontOffsetY() == offsetY && facing.getFrontOffsetZ() == offsetZ)
+                return facing;
+        }
+        return null;
+    }
+
     /**
      * This checks if the dimension is really a dimension and not another planet or something.
      * Used for my teleporter.
@@ -0,0 +1,74 @@
+package gregtech.api.util.world;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+
+import javax.annotation.Nullable;
+
+/**
+ * Reads block states of many nearby positions directly from chunk storage.<p>
+ *
+ * Chunk and chunk section of the last read position are remembered, so reading positions
+ * located in the same section doesn't look up chunk map again. Reader never loads chunks,
+ * reads from unloaded chunks return null.<p>
+ *
+ * Chunk sections can be created or replaced when blocks are changed, so reader
+ * should be reset with {@link #reset(World)} before every scan, and should not be kept between ticks.
+ */
+public class ChunkBlockReader {
+
+    private World world;
+    private Chunk cachedChunk;
+    private ExtendedBlockStorage cachedSection;
+    private int cachedSectionY = -1;
+
+    public ChunkBlockReader reset(World world) {
+        this.world = world;
+        this.cachedChunk = null;
+        this.cachedSection = null;
+        this.cachedSectionY = -1;
+        return this;
+    }
+
+    /**
+     * @return block state at given position, or null if it's chunk is not loaded
+     */
+    @Nullable
+    public IBlockState getBlockState(BlockPos pos) {
+        int posY = pos.getY();
+        Chunk chunk = getLoadedChunk(pos.getX() >> 4, pos.getZ() >> 4);
+        if(chunk == null)
+            return null;
+        if(posY < 0 || posY >= 256)
+            return Blocks.AIR.getDefaultState();
+        int sectionY = posY >> 4;
+        if(sectionY != cachedSectionY) {
+            this.cachedSection = chunk.getBlockStorageArray()[sectionY];
+            this.cachedSectionY = sectionY;
+        }
+        if(cachedSection == Chunk.NULL_BLOCK_STORAGE)
+            return Blocks.AIR.getDefaultState();
+        return cachedSection.get(pos.getX() & 15, posY & 15, pos.getZ() & 15);
+    }
+
+    public boolean isLoaded(BlockPos pos) {
+        return getLoadedChunk(pos.getX() >> 4, pos.getZ() >> 4) != null;
+    }
+
+    @Nullable
+    private Chunk getLoadedChunk(int chunkX, int chunkZ) {
+        Chunk chunk = this.cachedChunk;
+        if(chunk != null && chunk.x == chunkX && chunk.z == chunkZ)
+            return chunk;
+        chunk = world.getChunkProvider().getLoadedChunk(chunkX, chunkZ);
+        this.cachedChunk = chunk;
+        this.cachedSection = null;
+        this.cachedSectionY = -1;
+        return chunk;
+    }
+
+}
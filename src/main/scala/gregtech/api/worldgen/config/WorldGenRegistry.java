@@ -1,5 +1,6 @@
 package gregtech.api.worldgen.config;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import gregtech.api.GTValues;
@@ -15,6 +16,7 @@ import net.minecraftforge.fml.common.Loader;
 import net.minecraftforge.fml.common.registry.GameRegistry;
 import org.apache.commons.io.IOUtils;
 
+
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -38,6 +40,10 @@ public class WorldGenRegistry {
 
     private final List<OreDepositDefinition> registeredDefinitions = new ArrayList<>();
     private final Map<WorldProvider, WorldOreVeinCache> oreVeinCache = new WeakHashMap<>();
+    //immutable snapshot of registered definitions by name, replaced on reload, so it can be read from any thread
+    private Map<String, OreDepositDefinition> definitionsByName = Collections.emptyMap();
+    //hash of names and contents of all registered definitions, in registration order
+    private long definitionsHash;
 
     private class WorldOreVeinCache {
         private final List<OreDepositDefinition> worldVeins;
@@ -70,6 +76,22 @@ public class WorldGenRegistry {
         return worldOreVeinCache.getBiomeEntry(biome);
     }
 
+    /**
+     * @return hash of currently registered deposit definitions, changed when definitions are reloaded with different contents.
+     * Used to invalidate ore veins generated from previous definitions
+     */
+    public long getDefinitionsHash() {
+        return definitionsHash;
+    }
+
+    /**
+     * @return immutable snapshot of deposit definitions registered at the moment of the call, by deposit name.
+     * Snapshot isn't affected by later reloads, so it can be passed to and read from any thread
+     */
+    public Map<String, OreDepositDefinition> getDepositDefinitions() {
+        return definitionsByName;
+    }
+
     public void initializeRegistry() {
         GTLog.logger.info("Initializing ore generation registry...");
         registerShapeGenerator("ellipsoid", EllipsoidGenerator::new);
@@ -91,6 +113,7 @@ public class WorldGenRegistry {
         GTLog.logger.info("Reloading ore generation files from config...");
         registeredDefinitions.clear();
         oreVeinCache.clear();
+        this.definitionsHash = 0L;
         Path configPath = Loader.instance().getConfigDir().toPath().resolve(GTValues.MODID);
         Path worldgenRootPath = configPath.resolve("worldgen");
         Path jarFileExtractLock = configPath.resolve(".worldgen_extracted");
@@ -118,8 +141,14 @@ public class WorldGenRegistry {
                 OreDepositDefinition deposit = new OreDepositDefinition(depositName);
                 deposit.initializeFromConfig(element);
                 registeredDefinitions.add(deposit);
+                this.definitionsHash = 31L * definitionsHash + (depositName + element).hashCode();
             }
         }
+        ImmutableMap.Builder<String, OreDepositDefinition> definitionsBuilder = ImmutableMap.builder();
+        for(OreDepositDefinition definition : registeredDefinitions) {
+            definitionsBuilder.put(definition.getDepositName(), definition);
+        }
+        this.definitionsByName = definitionsBuilder.build();
         GTLog.logger.info("Loaded {} worldgen definitions", registeredDefinitions.size());
     }
 
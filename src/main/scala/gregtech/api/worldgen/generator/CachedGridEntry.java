@@ -1,9 +1,11 @@
 package gregtech.api.worldgen.generator;
 
+import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
+import com.google.common.cache.RemovalListener;
+import com.google.common.util.concurrent.Futures;
 import gnu.trove.list.TLongList;
+import gnu.trove.iterator.TLongObjectIterator;
 import gnu.trove.list.array.TLongArrayList;
 import gnu.trove.map.TLongObjectMap;
 import gnu.trove.map.hash.TLongObjectHashMap;
@@ -13,42 +15,174 @@ import gregtech.api.worldgen.config.OreDepositDefinition;
 import gregtech.api.worldgen.config.WorldGenRegistry;
 import gregtech.common.ConfigHolder;
 import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.BlockPos.MutableBlockPos;
 import net.minecraft.world.World;
 import net.minecraft.world.biome.Biome;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.IChunkProvider;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
 
+import javax.annotation.Nullable;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
 import java.util.concurrent.TimeUnit;
 
 public class CachedGridEntry implements IBlockGeneratorAccess {
 
-    private static final Map<World, LoadingCache<Long, CachedGridEntry>> gridEntryCache = new WeakHashMap<>();
+    private static final Map<World, Cache<Long, FutureTask<CachedGridEntry>>> gridEntryCache = new WeakHashMap<>();
+    private static final Map<World, GridEntryDiskCache> diskCaches = new WeakHashMap<>();
 
     public static CachedGridEntry getOrCreateEntry(World world, int gridX, int gridZ) {
-        LoadingCache<Long, CachedGridEntry> currentValue = gridEntryCache.get(world);
+        Cache<Long, FutureTask<CachedGridEntry>> gridCache = getGridCache(world);
+        Long gridEntryKey = getGridEntryKey(gridX, gridZ);
+        FutureTask<CachedGridEntry> generationTask = gridCache.getIfPresent(gridEntryKey);
+        if(generationTask == null) {
+            generationTask = createGenerationTask(world, gridX, gridZ);
+            gridCache.put(gridEntryKey, generationTask);
+        }
+        //generate entry on current thread if worker didn't start generating it yet, otherwise wait for worker
+        generationTask.run();
+        return Futures.getUnchecked(generationTask);
+    }
+
+    /**
+     * Schedules generation of grid entry on given executor, if it wasn't generated or scheduled yet.
+     * Must be called from server thread, because world biome provider isn't thread safe
+     */
+    public static void pregenerateEntry(World world, int gridX, int gridZ, Executor executor) {
+        Cache<Long, FutureTask<CachedGridEntry>> gridCache = getGridCache(world);
+        Long gridEntryKey = getGridEntryKey(gridX, gridZ);
+        if(gridCache.getIfPresent(gridEntryKey) == null) {
+            FutureTask<CachedGridEntry> generationTask = createGenerationTask(world, gridX, gridZ);
+            gridCache.put(gridEntryKey, generationTask);
+            executor.execute(generationTask);
+        }
+    }
+
+    /**
+     * Drops grid entries of unloaded world, writing them to disk cache if it's enabled
+     */
+    public static void onWorldUnload(World world) {
+        Cache<Long, FutureTask<CachedGridEntry>> gridCache = gridEntryCache.remove(world);
+        if(gridCache != null) {
+            gridCache.invalidateAll();
+        }
+        diskCaches.remove(world);
+    }
+
+    private static Cache<Long, FutureTask<CachedGridEntry>> getGridCache(World world) {
+        Cache<Long, FutureTask<CachedGridEntry>> currentValue = gridEntryCache.get(world);
         if(currentValue == null) {
-            currentValue = createGridCache(world);
+            GridEntryDiskCache diskCache = null;
+            if(ConfigHolder.oreVeinDiskCache && !world.isRemote) {
+                diskCache = new GridEntryDiskCache(world);
+                diskCaches.put(world, diskCache);
+            }
+            GridEntryDiskCache finalDiskCache = diskCache;
+            currentValue = CacheBuilder.newBuilder()
+                .maximumSize(1000)
+                .expireAfterAccess(5L, TimeUnit.MINUTES)
+                .removalListener((RemovalListener<Long, FutureTask<CachedGridEntry>>) notification ->
+                    onEntryRemoved(world, finalDiskCache, notification.getValue()))
+                .build();
             gridEntryCache.put(world, currentValue);
         }
-        Long gridEntryKey = (long) gridX << 32 | gridZ & 0xFFFFFFFFL;
-        return currentValue.getUnchecked(gridEntryKey);
-    }
-
-    private static LoadingCache<Long, CachedGridEntry> createGridCache(World world) {
-        return CacheBuilder.newBuilder()
-            .maximumSize(300)
-            .expireAfterAccess(5L, TimeUnit.MINUTES)
-            .build(new CacheLoader<Long, CachedGridEntry>() {
-                @Override
-                public CachedGridEntry load(Long key) {
-                    long actualKey = key;
-                    int gridX = (int) (actualKey >> 32);
-                    int gridZ = (int) actualKey;
-                    return new CachedGridEntry(world, gridX, gridZ);
-                }
-            });
+        return currentValue;
+    }
+
+    /**
+     * Deletes grid entries stored by disk caches of all loaded worlds, called when deposit definitions are reloaded.
+     * Entries of worlds which aren't loaded are ignored on read, because they are stored with hash of previous definitions and config
+     */
+    public static void clearDiskCaches() {
+        for(GridEntryDiskCache diskCache : diskCaches.values()) {
+            diskCache.clear();
+        }
+    }
+
+    private static void onEntryRemoved(World world, @Nullable GridEntryDiskCache diskCache, FutureTask<CachedGridEntry> generationTask) {
+        //entries still waiting for worker aren't generated yet, so there is nothing to store
+        if(diskCache == null || !generationTask.isDone())
+            return;
+        CachedGridEntry gridEntry = Futures.getUnchecked(generationTask);
+        //loaded chunks can be accessed only from server thread, entry is no longer cached so it can be written from worker
+        gridEntry.skipPopulatedChunks(world);
+        GridEntryPregenerator.getExecutorService().execute(() -> diskCache.writeEntry(gridEntry));
+    }
+
+    private static Long getGridEntryKey(int gridX, int gridZ) {
+        return (long) gridX << 32 | gridZ & 0xFFFFFFFFL;
+    }
+
+    /**
+     * Collects everything grid entry depends on from the world, so entry itself can be generated on any thread
+     */
+    private static FutureTask<CachedGridEntry> createGenerationTask(World world, int gridX, int gridZ) {
+        int gridSizeX = WorldGeneratorImpl.GRID_SIZE_X * 16;
+        int gridSizeZ = WorldGeneratorImpl.GRID_SIZE_Z * 16;
+        BlockPos blockPos = new BlockPos(gridX * gridSizeX + gridSizeX / 2, world.getActualHeight(), gridZ * gridSizeZ + gridSizeZ / 2);
+        Biome currentBiome = world.getBiomeProvider().getBiome(blockPos);
+        List<Entry<Integer, OreDepositDefinition>> depositMap = new ArrayList<>(WorldGenRegistry.INSTANCE.getCachedBiomeVeins(world.provider, currentBiome));
+        long worldSeed = world.getSeed();
+        int maxHeight = world.getActualHeight();
+        long generationHash = getGenerationHash(maxHeight);
+        //registry list is refilled on reload from server thread, so worker reads immutable snapshot instead
+        Map<String, OreDepositDefinition> definitions = WorldGenRegistry.INSTANCE.getDepositDefinitions();
+        GridEntryDiskCache diskCache = diskCaches.get(world);
+        return new FutureTask<>(() -> {
+            CachedGridEntry gridEntry = diskCache == null ? null : diskCache.readEntry(gridX, gridZ, generationHash, definitions);
+            if(gridEntry == null) {
+                gridEntry = new CachedGridEntry(worldSeed, gridX, gridZ, depositMap, maxHeight);
+            }
+            gridEntry.generationHash = generationHash;
+            return gridEntry;
+        });
+    }
+
+    /**
+     * @return hash of everything besides world seed grid entry generation depends on:
+     * deposit definitions, veins count config and world height
+     */
+    private static long getGenerationHash(int maxHeight) {
+        long generationHash = WorldGenRegistry.INSTANCE.getDefinitionsHash();
+        generationHash = 31L * generationHash + ConfigHolder.minVeinsInSection;
+        generationHash = 31L * generationHash + ConfigHolder.additionalVeinsInSection;
+        return 31L * generationHash + maxHeight;
+    }
+
+    static CachedGridEntry readFrom(DataInput dataInput, int gridX, int gridZ, Map<String, OreDepositDefinition> definitions) throws IOException {
+        int populatedChunks = dataInput.readInt();
+        int veinsCount = dataInput.readInt();
+        List<OreDepositDefinition> generatedVeins = new ArrayList<>(veinsCount);
+        for(int i = 0; i < veinsCount; i++) {
+            generatedVeins.add(readDepositDefinition(dataInput, definitions));
+        }
+        CachedGridEntry gridEntry = new CachedGridEntry(gridX, gridZ, generatedVeins, populatedChunks);
+        int chunksCount = dataInput.readInt();
+        for(int i = 0; i < chunksCount; i++) {
+            ChunkDataEntry dataEntry = ChunkDataEntry.readFrom(dataInput, definitions);
+            gridEntry.dataByChunkPos.put(getChunkKey(dataEntry.chunkX, dataEntry.chunkZ), dataEntry);
+        }
+        return gridEntry;
+    }
+
+    private static OreDepositDefinition readDepositDefinition(DataInput dataInput, Map<String, OreDepositDefinition> definitions) throws IOException {
+        String depositName = dataInput.readUTF();
+        OreDepositDefinition definition = definitions.get(depositName);
+        if(definition == null)
+            throw new IOException("Unknown ore deposit " + depositName);
+        return definition;
+    }
+
+    private static long getChunkKey(int chunkX, int chunkZ) {
+        return (long) chunkX << 32 | chunkZ & 0xFFFFFFFFL;
     }
 
     private final TLongObjectMap<ChunkDataEntry> dataByChunkPos = new TLongObjectHashMap<>();
@@ -59,40 +193,139 @@ public class CachedGridEntry implements IBlockGeneratorAccess {
     private List<Entry<Integer, OreDepositDefinition>> cachedDepositMap;
     private int maxHeight;
     private List<OreDepositDefinition> generatedVeins;
+    //bit per chunk of this grid cell, set when chunk is populated
+    private int populatedChunks;
+    //hash of deposit definitions and config this entry was generated from
+    private long generationHash;
 
     private int veinCenterX, veinCenterY, veinCenterZ;
     private OreDepositDefinition currentOreVein;
+    @Nullable
+    private final IVeinGenerationListener generationListener;
 
-    public CachedGridEntry(World world, int gridX, int gridZ) {
+    public CachedGridEntry(long worldSeed, int gridX, int gridZ, List<Entry<Integer, OreDepositDefinition>> depositMap, int maxHeight) {
+        this(worldSeed, gridX, gridZ, depositMap, maxHeight, null);
+    }
+
+    CachedGridEntry(long worldSeed, int gridX, int gridZ, List<Entry<Integer, OreDepositDefinition>> depositMap, int maxHeight, @Nullable IVeinGenerationListener generationListener) {
         this.gridX = gridX;
         this.gridZ = gridZ;
-        long gridRandomSeed = Objects.hash(gridX, gridZ) ^ world.getSeed();
+        long gridRandomSeed = Objects.hash(gridX, gridZ) ^ worldSeed;
         this.gridRandom = new XSTR(gridRandomSeed);
-
-        int gridSizeX = WorldGeneratorImpl.GRID_SIZE_X * 16;
-        int gridSizeZ = WorldGeneratorImpl.GRID_SIZE_Z * 16;
-        BlockPos blockPos = new BlockPos(gridX * gridSizeX + gridSizeX / 2, world.getActualHeight(), gridZ * gridSizeZ + gridSizeZ / 2);
-        Biome currentBiome = world.getBiomeProvider().getBiome(blockPos);
-        this.cachedDepositMap = new ArrayList<>(WorldGenRegistry.INSTANCE.getCachedBiomeVeins(world.provider, currentBiome));
-        this.maxHeight = world.getActualHeight();
+        this.cachedDepositMap = depositMap;
+        this.maxHeight = maxHeight;
+        this.generationListener = generationListener;
         this.generatedVeins = triggerVeinsGeneration();
     }
 
+    private CachedGridEntry(int gridX, int gridZ, List<OreDepositDefinition> generatedVeins, int populatedChunks) {
+        this.gridX = gridX;
+        this.gridZ = gridZ;
+        //entry is already generated, so it doesn't need random
+        this.gridRandom = null;
+        this.cachedDepositMap = Collections.emptyList();
+        this.generatedVeins = generatedVeins;
+        this.populatedChunks = populatedChunks;
+        this.generationListener = null;
+    }
+
+    public int getGridX() {
+        return gridX;
+    }
+
+    public int getGridZ() {
+        return gridZ;
+    }
+
+    long getGenerationHash() {
+        return generationHash;
+    }
+
     public List<OreDepositDefinition> getGeneratedVeins() {
         return Collections.unmodifiableList(generatedVeins);
     }
 
     public void populateChunk(World world, int chunkX, int chunkZ) {
-        long chunkId = (long) chunkX << 32 | chunkZ & 0xFFFFFFFFL;
-        ChunkDataEntry chunkDataEntry = dataByChunkPos.get(chunkId);
+        //every chunk is populated only once, so it's ore blocks are no longer needed
+        ChunkDataEntry chunkDataEntry = dataByChunkPos.remove(getChunkKey(chunkX, chunkZ));
         if(chunkDataEntry != null) {
             chunkDataEntry.populateChunk(world);
         }
+        markChunkPopulated(chunkX, chunkZ);
+    }
+
+    /**
+     * @return true if all chunks of this grid cell and all chunks this entry has ore blocks in were populated
+     */
+    public boolean isFullyPopulated() {
+        int allChunks = (1 << WorldGeneratorImpl.GRID_SIZE_X * WorldGeneratorImpl.GRID_SIZE_Z) - 1;
+        return populatedChunks == allChunks && dataByChunkPos.isEmpty();
+    }
+
+    /**
+     * Marks loaded chunks which were already populated as populated,
+     * because entry could have been generated again after they were populated
+     */
+    void skipPopulatedChunks(World world) {
+        IChunkProvider chunkProvider = world.getChunkProvider();
+        for(int offsetX = 0; offsetX < WorldGeneratorImpl.GRID_SIZE_X; offsetX++) {
+            for(int offsetZ = 0; offsetZ < WorldGeneratorImpl.GRID_SIZE_Z; offsetZ++) {
+                int chunkX = gridX * WorldGeneratorImpl.GRID_SIZE_X + offsetX;
+                int chunkZ = gridZ * WorldGeneratorImpl.GRID_SIZE_Z + offsetZ;
+                Chunk chunk = chunkProvider.getLoadedChunk(chunkX, chunkZ);
+                if(chunk != null && chunk.isTerrainPopulated()) {
+                    markChunkPopulated(chunkX, chunkZ);
+                }
+            }
+        }
+        TLongObjectIterator<ChunkDataEntry> iterator = dataByChunkPos.iterator();
+        while(iterator.hasNext()) {
+            iterator.advance();
+            ChunkDataEntry dataEntry = iterator.value();
+            Chunk chunk = chunkProvider.getLoadedChunk(dataEntry.chunkX, dataEntry.chunkZ);
+            if(chunk != null && chunk.isTerrainPopulated()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    Collection<ChunkDataEntry> getChunkDataEntries() {
+        return dataByChunkPos.valueCollection();
+    }
+
+    int getStoredBlocksCount() {
+        int storedBlocks = 0;
+        for(ChunkDataEntry dataEntry : dataByChunkPos.valueCollection()) {
+            storedBlocks += dataEntry.getBlocksCount();
+        }
+        return storedBlocks;
+    }
+
+    void writeTo(DataOutput dataOutput) throws IOException {
+        dataOutput.writeInt(populatedChunks);
+        dataOutput.writeInt(generatedVeins.size());
+        for(OreDepositDefinition definition : generatedVeins) {
+            dataOutput.writeUTF(definition.getDepositName());
+        }
+        dataOutput.writeInt(dataByChunkPos.size());
+        for(ChunkDataEntry dataEntry : dataByChunkPos.valueCollection()) {
+            dataEntry.writeTo(dataOutput);
+        }
+    }
+
+    private void markChunkPopulated(int chunkX, int chunkZ) {
+        int offsetX = chunkX - gridX * WorldGeneratorImpl.GRID_SIZE_X;
+        int offsetZ = chunkZ - gridZ * WorldGeneratorImpl.GRID_SIZE_Z;
+        if(offsetX >= 0 && offsetX < WorldGeneratorImpl.GRID_SIZE_X &&
+            offsetZ >= 0 && offsetZ < WorldGeneratorImpl.GRID_SIZE_Z) {
+            this.populatedChunks |= 1 << (offsetX * WorldGeneratorImpl.GRID_SIZE_Z + offsetZ);
+        }
     }
 
     public List<OreDepositDefinition> triggerVeinsGeneration() {
         if(cachedDepositMap.isEmpty())
             return Collections.emptyList(); //do not try to generate an empty vein list
+        long selectionStartTime = generationListener == null ? 0L : System.nanoTime();
         ArrayList<OreDepositDefinition> generatedDeposits = new ArrayList<>();
         int currentCycle = 0;
         int maxCycles = ConfigHolder.minVeinsInSection + (ConfigHolder.additionalVeinsInSection == 0 ? 0 :
@@ -109,6 +342,9 @@ public class CachedGridEntry implements IBlockGeneratorAccess {
         }
         //sort generated veins according to their priority, so they get mixed in properly
         generatedDeposits.sort(Collections.reverseOrder(Comparator.comparing(OreDepositDefinition::getPriority)));
+        if(generationListener != null) {
+            generationListener.onVeinsSelected(System.nanoTime() - selectionStartTime);
+        }
         //and finally generate all of them
         for(OreDepositDefinition depositDefinition : generatedDeposits) {
             doGenerateVein(depositDefinition);
@@ -125,7 +361,12 @@ public class CachedGridEntry implements IBlockGeneratorAccess {
         int minimumHeight = Math.max(3, definition.getHeightLimit()[0]);
         this.veinCenterY = minimumHeight + gridRandom.nextInt(maximumHeight - minimumHeight);
         this.veinCenterZ = gridZ * gridSizeZ + gridRandom.nextInt(gridSizeZ);
-        this.currentOreVein.getShapeGenerator().generate(new XSTR(gridRandom.getSeed()), this);
+        long shapeSeed = gridRandom.getSeed();
+        long generationStartTime = generationListener == null ? 0L : System.nanoTime();
+        this.currentOreVein.getShapeGenerator().generate(new XSTR(shapeSeed), this);
+        if(generationListener != null) {
+            generationListener.onVeinGenerated(definition, shapeSeed, System.nanoTime() - generationStartTime);
+        }
         this.currentOreVein = null;
     }
 
@@ -146,24 +387,53 @@ public class CachedGridEntry implements IBlockGeneratorAccess {
         return true;
     }
 
+    @Override
+    public void generateBlockRun(int x, int y, int startZ, int endZ) {
+        if(currentOreVein == null)
+            throw new IllegalStateException("Attempted to call generateBlockRun without current ore vein!");
+        int globalBlockX = veinCenterX + x;
+        int globalBlockY = veinCenterY + y;
+        float density = currentOreVein.getDensity();
+        ChunkDataEntry dataEntry = null;
+        for(int z = startZ; z <= endZ; z++) {
+            //one random value per block in the same order as generateBlock, so veins keep their layout
+            if(density < gridRandom.nextFloat())
+                continue;
+            int globalBlockZ = veinCenterZ + z;
+            //run crosses chunk border only every 16 blocks
+            if(dataEntry == null || dataEntry.chunkZ != globalBlockZ >> 4) {
+                dataEntry = getChunkDataEntry(globalBlockX >> 4, globalBlockZ >> 4);
+            }
+            dataEntry.setBlock(globalBlockX & 15, globalBlockY, globalBlockZ & 15, currentOreVein);
+        }
+    }
+
     private void setBlock(int worldX, int worldY, int worldZ, OreDepositDefinition definition) {
-        int chunkX = worldX >> 4;
-        int chunkZ = worldZ >> 4;
-        int localX = worldX - chunkX * 16;
-        int localZ = worldZ - chunkZ * 16;
-        long chunkKey = (long) chunkX << 32 | chunkZ & 0xFFFFFFFFL;
+        ChunkDataEntry dataEntry = getChunkDataEntry(worldX >> 4, worldZ >> 4);
+        dataEntry.setBlock(worldX & 15, worldY, worldZ & 15, definition);
+    }
+
+    private ChunkDataEntry getChunkDataEntry(int chunkX, int chunkZ) {
+        long chunkKey = getChunkKey(chunkX, chunkZ);
         ChunkDataEntry dataEntry = dataByChunkPos.get(chunkKey);
         if(dataEntry == null) {
             dataEntry = new ChunkDataEntry(chunkX, chunkZ);
             dataByChunkPos.put(chunkKey, dataEntry);
         }
-        dataEntry.setBlock(localX, worldY, localZ, definition);
+        return dataEntry;
     }
 
 
     public static class ChunkDataEntry {
 
-        private final Map<OreDepositDefinition, TLongList> oreBlocks = new HashMap<>();
+        //placement statistics of chunk population, chunks are populated only on server thread
+        private static long placementNanos;
+        private static long placedChunks;
+        private static long placedBlocks;
+
+        //keeps insertion order, so overlapping veins are placed in the order they were generated in, highest priority first,
+        //same as in every run and after reading entry from disk cache. Hash map order depended on identity hash codes instead
+        private final Map<OreDepositDefinition, TLongList> oreBlocks = new LinkedHashMap<>();
         private final int chunkX;
         private final int chunkZ;
 
@@ -183,24 +453,161 @@ public class CachedGridEntry implements IBlockGeneratorAccess {
             longList.add(blockIndex);
         }
 
+        static ChunkDataEntry readFrom(DataInput dataInput, Map<String, OreDepositDefinition> definitions) throws IOException {
+            ChunkDataEntry dataEntry = new ChunkDataEntry(dataInput.readInt(), dataInput.readInt());
+            int definitionsCount = dataInput.readInt();
+            for(int i = 0; i < definitionsCount; i++) {
+                OreDepositDefinition definition = readDepositDefinition(dataInput, definitions);
+                int blocksCount = dataInput.readInt();
+                TLongList blockIndexList = new TLongArrayList(blocksCount);
+                for(int j = 0; j < blocksCount; j++) {
+                    blockIndexList.add(dataInput.readLong());
+                }
+                dataEntry.oreBlocks.put(definition, blockIndexList);
+            }
+            return dataEntry;
+        }
+
+        void writeTo(DataOutput dataOutput) throws IOException {
+            dataOutput.writeInt(chunkX);
+            dataOutput.writeInt(chunkZ);
+            dataOutput.writeInt(oreBlocks.size());
+            for(Entry<OreDepositDefinition, TLongList> entry : oreBlocks.entrySet()) {
+                dataOutput.writeUTF(entry.getKey().getDepositName());
+                TLongList blockIndexList = entry.getValue();
+                dataOutput.writeInt(blockIndexList.size());
+                for(int i = 0; i < blockIndexList.size(); i++) {
+                    dataOutput.writeLong(blockIndexList.get(i));
+                }
+            }
+        }
+
+        /**
+         * @return total time spent placing ore blocks during chunk population since server start
+         */
+        public static long getPlacementNanos() {
+            return placementNanos;
+        }
+
+        public static long getPlacedChunks() {
+            return placedChunks;
+        }
+
+        public static long getPlacedBlocks() {
+            return placedBlocks;
+        }
+
+        /**
+         * Places ore blocks into the chunk
+         */
         public void populateChunk(World world) {
+            long startTime = System.nanoTime();
+            Chunk chunk = world.getChunkFromChunkCoords(chunkX, chunkZ);
+            if(populateSections(world, chunk.getBlockStorageArray())) {
+                chunk.markDirty();
+            }
+            placementNanos += System.nanoTime() - startTime;
+            placedChunks++;
+            placedBlocks += getBlocksCount();
+        }
+
+        int getBlocksCount() {
+            int blocksCount = 0;
+            for(TLongList blockIndexList : oreBlocks.values()) {
+                blocksCount += blockIndexList.size();
+            }
+            return blocksCount;
+        }
+
+        /**
+         * Places ore blocks into chunk sections. Blocks are placed section by section, straight into chunk section storage
+         * when replacement doesn't change lighting and neither state has tile entity,
+         * so lighting, height map and tile entities don't need to be updated for them
+         * @param world world sections belong to, or null for scratch sections which aren't part of any world,
+         *              in which case blocks are only set into section storage, without block callbacks or world updates
+         * @return true if any section was modified directly
+         */
+        boolean populateSections(@Nullable World world, ExtendedBlockStorage[] sections) {
             MutableBlockPos blockPos = new MutableBlockPos();
-            for(OreDepositDefinition definition : oreBlocks.keySet()) {
-                long[] blockIndexArray = oreBlocks.get(definition).toArray();
-                for(long blockIndex : blockIndexArray) {
+            boolean sectionsModified = false;
+            for(Entry<OreDepositDefinition, TLongList> entry : oreBlocks.entrySet()) {
+                OreDepositDefinition definition = entry.getKey();
+                for(long blockIndex : sortBySection(entry.getValue())) {
                     int xzValue = (int) (blockIndex >> 32);
                     int blockY = (int) blockIndex;
                     int blockX = (byte) (xzValue >> 8);
                     int blockZ = (byte) xzValue;
-                    blockPos.setPos(chunkX * 16 + blockX, blockY, chunkZ * 16 + blockZ);
-                    IBlockState currentState = world.getBlockState(blockPos);
+                    ExtendedBlockStorage section = sections[blockY >> 4];
+                    IBlockState currentState = section == Chunk.NULL_BLOCK_STORAGE ?
+                        Blocks.AIR.getDefaultState() : section.get(blockX, blockY & 15, blockZ);
                     if(!definition.getGenerationPredicate().test(currentState))
                         continue; //do not generate if predicate didn't match
                     IBlockState newState = definition.getBlockFiller().getStateForGeneration(currentState, blockX, blockY, blockZ);
-                    //set flags as 16 to avoid observer updates loading neighbour chunks
-                    world.setBlockState(blockPos, newState, 16);
+                    blockPos.setPos(chunkX * 16 + blockX, blockY, chunkZ * 16 + blockZ);
+                    if(section != Chunk.NULL_BLOCK_STORAGE && (world == null || ConfigHolder.oreVeinDirectPlacement && canReplaceDirectly(world, blockPos, currentState, newState))) {
+                        section.set(blockX, blockY & 15, blockZ, newState);
+                        if(world != null && currentState.getBlock() != newState.getBlock()) {
+                            //same block callbacks as chunk calls when replacing block
+                            currentState.getBlock().breakBlock(world, blockPos, currentState);
+                            newState.getBlock().onBlockAdded(world, blockPos, newState);
+                        }
+                        sectionsModified = true;
+                    } else if(world != null) {
+                        //set flags as 16 to avoid observer updates loading neighbour chunks
+                        world.setBlockState(blockPos, newState, 16);
+                    }
+                }
+            }
+            return sectionsModified;
+        }
+
+        /**
+         * Sets every block this entry places back to given state, so scratch sections can be reused for next placement
+         */
+        void resetSections(ExtendedBlockStorage[] sections, IBlockState blockState) {
+            for(TLongList blockIndexList : oreBlocks.values()) {
+                for(int i = 0; i < blockIndexList.size(); i++) {
+                    long blockIndex = blockIndexList.get(i);
+                    int xzValue = (int) (blockIndex >> 32);
+                    int blockY = (int) blockIndex;
+                    ExtendedBlockStorage section = blockY >= 0 && blockY < 256 ? sections[blockY >> 4] : Chunk.NULL_BLOCK_STORAGE;
+                    if(section != Chunk.NULL_BLOCK_STORAGE) {
+                        section.set((byte) (xzValue >> 8), blockY & 15, (byte) xzValue, blockState);
+                    }
+                }
+            }
+        }
+
+        private static boolean canReplaceDirectly(World world, BlockPos blockPos, IBlockState currentState, IBlockState newState) {
+            return !currentState.getBlock().hasTileEntity(currentState) && !newState.getBlock().hasTileEntity(newState) &&
+                currentState.getLightOpacity(world, blockPos) == newState.getLightOpacity(world, blockPos) &&
+                currentState.getLightValue(world, blockPos) == newState.getLightValue(world, blockPos);
+        }
+
+        /**
+         * Counting sort of block indices by chunk section, keeping order of blocks inside of each section.
+         * Blocks outside of world height are dropped, because they can't be placed anyway
+         */
+        private static long[] sortBySection(TLongList blockIndexList) {
+            int[] sectionOffsets = new int[17];
+            for(int i = 0; i < blockIndexList.size(); i++) {
+                int blockY = (int) blockIndexList.get(i);
+                if(blockY >= 0 && blockY < 256) {
+                    sectionOffsets[(blockY >> 4) + 1]++;
+                }
+            }
+            for(int i = 1; i < sectionOffsets.length; i++) {
+                sectionOffsets[i] += sectionOffsets[i - 1];
+            }
+            long[] sortedIndices = new long[sectionOffsets[16]];
+            for(int i = 0; i < blockIndexList.size(); i++) {
+                long blockIndex = blockIndexList.get(i);
+                int blockY = (int) blockIndex;
+                if(blockY >= 0 && blockY < 256) {
+                    sortedIndices[sectionOffsets[blockY >> 4]++] = blockIndex;
                 }
             }
+            return sortedIndices;
         }
 
     }
@@ -0,0 +1,138 @@
+package gregtech.api.worldgen.generator;
+
+import gregtech.api.util.GTLog;
+import gregtech.api.worldgen.config.OreDepositDefinition;
+import net.minecraft.world.World;
+
+import javax.annotation.Nullable;
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Persists ore vein grid entries evicted from memory cache in the dimension save folder,
+ * so grid entry needed again later is read sequentially from disk instead of being generated again.<p>
+ *
+ * Every grid entry is stored in it's own file, holding ore blocks of chunks which weren't populated yet.
+ * Files of grid entries which chunks were all populated are deleted.
+ * Entries are generated deterministically from world seed, deposit definitions and veins config, so missing, outdated or unreadable file
+ * only means entry gets generated again. Files are written to temporary file first and then moved in place,
+ * so entries written on worker threads are never read partially written.
+ */
+public class GridEntryDiskCache {
+
+    private static final int FORMAT_VERSION = 2;
+    private static final AtomicLong CACHE_HITS = new AtomicLong();
+    private static final AtomicLong CACHE_MISSES = new AtomicLong();
+
+    private final File cacheDirectory;
+    private final long worldSeed;
+
+    public GridEntryDiskCache(World world) {
+        File worldDirectory = world.getSaveHandler().getWorldDirectory();
+        String dimensionFolder = world.provider.getSaveFolder();
+        if(dimensionFolder != null) {
+            worldDirectory = new File(worldDirectory, dimensionFolder);
+        }
+        this.cacheDirectory = new File(worldDirectory, "gregtech/ore_veins");
+        this.worldSeed = world.getSeed();
+    }
+
+    public static long getCacheHits() {
+        return CACHE_HITS.get();
+    }
+
+    public static long getCacheMisses() {
+        return CACHE_MISSES.get();
+    }
+
+    /**
+     * Reads grid entry from disk. Can be called from any thread
+     * @param generationHash hash of deposit definitions and config entry should be generated from
+     * @param definitions snapshot of deposit definitions by name stored veins are resolved from
+     * @return stored grid entry, or null if it isn't stored, was generated from other definitions or can't be read
+     */
+    @Nullable
+    public CachedGridEntry readEntry(int gridX, int gridZ, long generationHash, Map<String, OreDepositDefinition> definitions) {
+        File entryFile = getEntryFile(gridX, gridZ);
+        if(!entryFile.isFile()) {
+            CACHE_MISSES.incrementAndGet();
+            return null;
+        }
+        try(DataInputStream inputStream = new DataInputStream(new BufferedInputStream(new GZIPInputStream(new FileInputStream(entryFile))))) {
+            if(inputStream.readInt() != FORMAT_VERSION || inputStream.readLong() != worldSeed ||
+                inputStream.readLong() != generationHash) {
+                CACHE_MISSES.incrementAndGet();
+                return null;
+            }
+            CachedGridEntry gridEntry = CachedGridEntry.readFrom(inputStream, gridX, gridZ, definitions);
+            CACHE_HITS.incrementAndGet();
+            return gridEntry;
+        } catch (IOException exception) {
+            GTLog.logger.warn("Failed to read cached ore veins from {}", entryFile, exception);
+            CACHE_MISSES.incrementAndGet();
+            return null;
+        }
+    }
+
+    /**
+     * Writes grid entry to disk, or deletes it's file if entry was fully populated. Can be called from any thread
+     */
+    public void writeEntry(CachedGridEntry gridEntry) {
+        File entryFile = getEntryFile(gridEntry.getGridX(), gridEntry.getGridZ());
+        if(gridEntry.isFullyPopulated()) {
+            if(entryFile.exists() && !entryFile.delete()) {
+                GTLog.logger.warn("Failed to delete cached ore veins file {}", entryFile);
+            }
+            return;
+        }
+        if(!cacheDirectory.isDirectory() && !cacheDirectory.mkdirs()) {
+            GTLog.logger.warn("Failed to create cached ore veins directory {}", cacheDirectory);
+            return;
+        }
+        File temporaryFile;
+        try {
+            temporaryFile = File.createTempFile(entryFile.getName(), ".tmp", cacheDirectory);
+        } catch (IOException exception) {
+            GTLog.logger.warn("Failed to create temporary cached ore veins file in {}", cacheDirectory, exception);
+            return;
+        }
+        try {
+            try(DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(new FileOutputStream(temporaryFile))))) {
+                outputStream.writeInt(FORMAT_VERSION);
+                outputStream.writeLong(worldSeed);
+                outputStream.writeLong(gridEntry.getGenerationHash());
+                gridEntry.writeTo(outputStream);
+            }
+            Files.move(temporaryFile.toPath(), entryFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException exception) {
+            GTLog.logger.warn("Failed to write cached ore veins to {}", entryFile, exception);
+            if(temporaryFile.exists() && !temporaryFile.delete()) {
+                GTLog.logger.warn("Failed to delete incomplete cached ore veins file {}", temporaryFile);
+            }
+        }
+    }
+
+    /**
+     * Deletes all stored grid entries, because they were generated from deposit definitions which were reloaded
+     */
+    public void clear() {
+        File[] entryFiles = cacheDirectory.listFiles();
+        if(entryFiles == null)
+            return;
+        for(File entryFile : entryFiles) {
+            if(!entryFile.delete()) {
+                GTLog.logger.warn("Failed to delete cached ore veins file {}", entryFile);
+            }
+        }
+    }
+
+    private File getEntryFile(int gridX, int gridZ) {
+        return new File(cacheDirectory, gridX + "_" + gridZ + ".bin");
+    }
+
+}
@@ -0,0 +1,70 @@
+package gregtech.api.worldgen.generator;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import gregtech.common.ConfigHolder;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Generates ore vein grid entries around exploring players on worker threads,
+ * so chunk population only has to place already generated ore blocks.<p>
+ *
+ * When player enters new grid cell, all grid cells within server view distance
+ * (plus one grid cell, because chunk population reads neighbour cells too) which aren't cached yet
+ * are scheduled for generation, nearest cells first.
+ */
+public class GridEntryPregenerator {
+
+    //player -> dimension and grid cell player was in on last check
+    private static final Map<EntityPlayer, Pair<Integer, ChunkPos>> LAST_PLAYER_GRIDS = new WeakHashMap<>();
+    private static ExecutorService executorService;
+
+    public static void onPlayerTick(EntityPlayerMP player) {
+        if(ConfigHolder.oreVeinPregenerationThreads == 0 || player.ticksExisted % 10 != 0)
+            return;
+        int gridX = Math.floorDiv(player.chunkCoordX, WorldGeneratorImpl.GRID_SIZE_X);
+        int gridZ = Math.floorDiv(player.chunkCoordZ, WorldGeneratorImpl.GRID_SIZE_Z);
+        Pair<Integer, ChunkPos> playerGrid = Pair.of(player.dimension, new ChunkPos(gridX, gridZ));
+        if(playerGrid.equals(LAST_PLAYER_GRIDS.put(player, playerGrid)))
+            return; //player didn't move to another grid cell or dimension since last check
+        int viewDistance = player.getServerWorld().getMinecraftServer().getPlayerList().getViewDistance();
+        int gridRadius = viewDistance / Math.min(WorldGeneratorImpl.GRID_SIZE_X, WorldGeneratorImpl.GRID_SIZE_Z) + 2;
+        World world = player.world;
+        ExecutorService executor = getExecutorService();
+        for(int radius = 0; radius <= gridRadius; radius++) {
+            for(int offsetX = -radius; offsetX <= radius; offsetX++) {
+                for(int offsetZ = -radius; offsetZ <= radius; offsetZ++) {
+                    //only cells on the current ring, inner ones were scheduled on previous iterations
+                    if(Math.abs(offsetX) != radius && Math.abs(offsetZ) != radius)
+                        continue;
+                    CachedGridEntry.pregenerateEntry(world, gridX + offsetX, gridZ + offsetZ, executor);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return worker pool generating grid entries, also used to write evicted grid entries to disk cache
+     */
+    static ExecutorService getExecutorService() {
+        if(executorService == null) {
+            //disk cache writes need a worker even if pregeneration is disabled
+            executorService = Executors.newFixedThreadPool(Math.max(1, ConfigHolder.oreVeinPregenerationThreads),
+                new ThreadFactoryBuilder()
+                    .setNameFormat("GregTech Ore Vein Generator #%d")
+                    .setDaemon(true)
+                    .setPriority(Thread.MIN_PRIORITY)
+                    .build());
+        }
+        return executorService;
+    }
+
+}
@@ -4,4 +4,14 @@ public interface IBlockGeneratorAccess {
 
     boolean generateBlock(int x, int y, int z);
 
+    /**
+     * Generates run of blocks at given x and y, from startZ to endZ inclusive.
+     * Equivalent to calling {@link #generateBlock(int, int, int)} for every block of the run in ascending z order
+     */
+    default void generateBlockRun(int x, int y, int startZ, int endZ) {
+        for(int z = startZ; z <= endZ; z++) {
+            generateBlock(x, y, z);
+        }
+    }
+
 }
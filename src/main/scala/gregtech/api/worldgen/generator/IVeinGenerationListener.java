@@ -0,0 +1,14 @@
+package gregtech.api.worldgen.generator;
+
+import gregtech.api.worldgen.config.OreDepositDefinition;
+
+/**
+ * Receives timings of grid entry generation steps, used to measure generation without affecting regular world generation
+ */
+interface IVeinGenerationListener {
+
+    void onVeinsSelected(long selectionNanos);
+
+    void onVeinGenerated(OreDepositDefinition definition, long shapeSeed, long generationNanos);
+
+}
@@ -0,0 +1,176 @@
+package gregtech.api.worldgen.generator;
+
+import gnu.trove.map.TObjectLongMap;
+import gnu.trove.map.hash.TObjectLongHashMap;
+import gregtech.api.util.XSTR;
+import gregtech.api.worldgen.config.OreDepositDefinition;
+import gregtech.api.worldgen.generator.CachedGridEntry.ChunkDataEntry;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map.Entry;
+
+/**
+ * Headless ore vein generation benchmark. Generates grid entries the same way world generation does,
+ * without accessing the world, so it can run on any thread.<p>
+ *
+ * Generation time is split into vein selection, shape rasterization and block recording.
+ * Rasterization is measured by rasterizing every generated vein shape once more with the same seed
+ * without recording blocks, through the same block run calls shapes make during generation, and block recording (density rolls and per-chunk block lists) is the rest of vein generation time.<p>
+ *
+ * Placement is measured by placing blocks of every generated chunk into scratch chunk sections filled with stone,
+ * which aren't part of any world, so block callbacks and world updates of real chunk population aren't included.
+ * Scratch sections are reset to stone after every placement.<p>
+ *
+ * Memory per grid entry is reported as block index payload, 8 bytes per stored block, not as retained heap size,
+ * which also includes list and map overhead. Entries are dropped right after they are measured,
+ * so amount of generated grid cells isn't limited by heap size.
+ */
+public class WorldgenBenchmark implements IVeinGenerationListener, IBlockGeneratorAccess {
+
+    private static final IBlockState SCRATCH_STATE = Blocks.STONE.getDefaultState();
+
+    private final long worldSeed;
+    private final List<Entry<Integer, OreDepositDefinition>> depositMap;
+    private final int maxHeight;
+
+    //shape generator name -> rasterization time and amount of rasterized blocks
+    private final TObjectLongMap<String> rasterizationNanos = new TObjectLongHashMap<>();
+    private final TObjectLongMap<String> rasterizedBlocks = new TObjectLongHashMap<>();
+    private long currentRasterizedBlocks;
+
+    private int generatedEntries;
+    private int generatedVeins;
+    private long selectionNanos;
+    private long veinGenerationNanos;
+    private long recordedBlocks;
+    private long placementNanos;
+
+    public WorldgenBenchmark(long worldSeed, List<Entry<Integer, OreDepositDefinition>> depositMap, int maxHeight) {
+        this.worldSeed = worldSeed;
+        this.depositMap = depositMap;
+        this.maxHeight = maxHeight;
+    }
+
+    /**
+     * Generates given amount of grid entries in square area starting at grid cell 0, 0
+     */
+    public void run(int gridCount) {
+        int gridSide = (int) Math.ceil(Math.sqrt(gridCount));
+        ExtendedBlockStorage[] scratchSections = createScratchSections();
+        for(int i = 0; i < gridCount; i++) {
+            //entry shuffles deposit map it was given, so every entry gets it's own copy like in world generation
+            CachedGridEntry gridEntry = new CachedGridEntry(worldSeed, i % gridSide, i / gridSide, new ArrayList<>(depositMap), maxHeight, this);
+            this.recordedBlocks += gridEntry.getStoredBlocksCount();
+            for(ChunkDataEntry dataEntry : gridEntry.getChunkDataEntries()) {
+                long startTime = System.nanoTime();
+                dataEntry.populateSections(null, scratchSections);
+                this.placementNanos += System.nanoTime() - startTime;
+                dataEntry.resetSections(scratchSections, SCRATCH_STATE);
+            }
+        }
+        this.generatedEntries += gridCount;
+    }
+
+    @Override
+    public void onVeinsSelected(long selectionNanos) {
+        this.selectionNanos += selectionNanos;
+    }
+
+    @Override
+    public void onVeinGenerated(OreDepositDefinition definition, long shapeSeed, long generationNanos) {
+        this.veinGenerationNanos += generationNanos;
+        this.generatedVeins++;
+        String shapeName = definition.getShapeGenerator().getClass().getSimpleName();
+        this.currentRasterizedBlocks = 0L;
+        long startTime = System.nanoTime();
+        definition.getShapeGenerator().generate(new XSTR(shapeSeed), this);
+        long shapeNanos = System.nanoTime() - startTime;
+        rasterizationNanos.adjustOrPutValue(shapeName, shapeNanos, shapeNanos);
+        rasterizedBlocks.adjustOrPutValue(shapeName, currentRasterizedBlocks, currentRasterizedBlocks);
+    }
+
+    public int getGeneratedEntries() {
+        return generatedEntries;
+    }
+
+    public int getGeneratedVeins() {
+        return generatedVeins;
+    }
+
+    public long getRecordedBlocks() {
+        return recordedBlocks;
+    }
+
+    public long getSelectionNanos() {
+        return selectionNanos;
+    }
+
+    public TObjectLongMap<String> getRasterizationNanos() {
+        return rasterizationNanos;
+    }
+
+    public TObjectLongMap<String> getRasterizedBlocks() {
+        return rasterizedBlocks;
+    }
+
+    public long getRecordingNanos() {
+        long totalRasterizationNanos = 0L;
+        for(long shapeNanos : rasterizationNanos.values()) {
+            totalRasterizationNanos += shapeNanos;
+        }
+        return Math.max(0L, veinGenerationNanos - totalRasterizationNanos);
+    }
+
+    public long getGenerationNanos() {
+        return selectionNanos + veinGenerationNanos;
+    }
+
+    public long getBlocksPerSecond() {
+        long generationNanos = getGenerationNanos();
+        return generationNanos == 0L ? 0L : recordedBlocks * 1_000_000_000L / generationNanos;
+    }
+
+    public long getPlacementNanos() {
+        return placementNanos;
+    }
+
+    /**
+     * @return average block index payload of grid entry, every block index is stored as long.
+     * Doesn't include overhead of lists and maps holding indices
+     */
+    public long getIndexPayloadBytesPerEntry() {
+        return generatedEntries == 0 ? 0L : recordedBlocks * Long.BYTES / generatedEntries;
+    }
+
+    @Override
+    public boolean generateBlock(int x, int y, int z) {
+        this.currentRasterizedBlocks++;
+        return true;
+    }
+
+    @Override
+    public void generateBlockRun(int x, int y, int startZ, int endZ) {
+        this.currentRasterizedBlocks += endZ - startZ + 1;
+    }
+
+    private static ExtendedBlockStorage[] createScratchSections() {
+        ExtendedBlockStorage[] sections = new ExtendedBlockStorage[16];
+        for(int sectionY = 0; sectionY < sections.length; sectionY++) {
+            ExtendedBlockStorage section = new ExtendedBlockStorage(sectionY << 4, false);
+            for(int x = 0; x < 16; x++) {
+                for(int y = 0; y < 16; y++) {
+                    for(int z = 0; z < 16; z++) {
+                        section.set(x, y, z, SCRATCH_STATE);
+                    }
+                }
+            }
+            sections[sectionY] = section;
+        }
+        return sections;
+    }
+
+}
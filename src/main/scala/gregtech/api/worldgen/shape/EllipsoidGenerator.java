@@ -39,6 +39,26 @@ public class EllipsoidGenerator implements IShapeGenerator {
         int ab2 = a * a * b * b, ac2 = a * a * c * c, bc2 = b * b * c * c, abc2 = ab2 * c * c;
 
         int max = Math.max(a, Math.max(b, c));
+        //shapes of very big ellipsoids depend on integer overflow, so they are rasterized voxel by voxel to keep them the same
+        long maxTestValue = ((long) bc2 + ac2 + ab2) * max * max + ab2;
+        if((long) a * a * b * b * c * c > Integer.MAX_VALUE || maxTestValue > Integer.MAX_VALUE) {
+            generateByVoxels(blockAccess, ab2, ac2, bc2, abc2, max);
+            return;
+        }
+        for (int x = -max; x <= max; x++) {
+            int xr = bc2 * x * x;
+            if(xr > abc2) continue;
+            for (int y = -max; y <= max; y++) {
+                int yr = xr + ac2 * y * y + ab2;
+                if(yr > abc2) continue;
+                //z test is ab2 * z * z <= abc2 - yr, so blocks matching it form single run around z = 0
+                int zExtent = ab2 == 0 ? max : Math.min(max, getMaxOffset(abc2 - yr, ab2));
+                blockAccess.generateBlockRun(x, y, -zExtent, zExtent);
+            }
+        }
+    }
+
+    private static void generateByVoxels(IBlockGeneratorAccess blockAccess, int ab2, int ac2, int bc2, int abc2, int max) {
         for (int x = -max; x <= max; x++) {
             int xr = bc2 * x * x;
             if(xr > abc2) continue;
@@ -54,4 +74,15 @@ public class EllipsoidGenerator implements IShapeGenerator {
         }
     }
 
+    /**
+     * @return biggest non-negative offset which square multiplied by given factor doesn't exceed given value
+     */
+    private static int getMaxOffset(int value, int factor) {
+        int offset = (int) Math.sqrt((double) value / factor);
+        //correct floating point rounding of the estimate
+        while((long) (offset + 1) * (offset + 1) * factor <= value) offset++;
+        while(offset > 0 && (long) offset * offset * factor > value) offset--;
+        return offset;
+    }
+
 }
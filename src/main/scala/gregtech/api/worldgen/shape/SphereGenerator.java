@@ -29,15 +29,18 @@ public class SphereGenerator implements IShapeGenerator {
     @Override
     public void generate(Random gridRandom, IBlockGeneratorAccess relativeBlockAccess) {
         int sphereRadius = radiusMax >= radiusMin ? 0 : gridRandom.nextInt(radiusMax - radiusMin);
+        int radiusSquared = sphereRadius * sphereRadius;
         for(int x = -sphereRadius; x <= sphereRadius; x++) {
             for(int z = -sphereRadius; z <= sphereRadius; z++) {
-                for(int y = -sphereRadius; y <= sphereRadius; y++) {
-                    if(x * x + y * y + z * z > sphereRadius * sphereRadius)
-                        continue;
+                int remainingSquared = radiusSquared - x * x - z * z;
+                if(remainingSquared < 0)
+                    continue;
+                //blocks are generated along y axis in the same order as before, so they get the same density values
+                int yExtent = (int) Math.sqrt(remainingSquared);
+                for(int y = -yExtent; y <= yExtent; y++) {
                     relativeBlockAccess.generateBlock(x, y, z);
                 }
             }
         }
-
     }
 }
@@ -21,6 +21,17 @@ public class ConfigHolder {
     @Config.Comment("Specifies additional random amount of veins in section")
     public static int additionalVeinsInSection = 2;
 
+    @Config.RangeInt(min = 0)
+    @Config.Comment("Amount of worker threads generating ore veins ahead of time around exploring players. 0 generates ore veins only during chunk population. Default: 2")
+    @Config.RequiresMcRestart
+    public static int oreVeinPregenerationThreads = 2;
+
+    @Config.Comment("True to store generated ore veins of not yet populated chunks in the world save, so they are read from disk instead of being generated again. Default: false")
+    public static boolean oreVeinDiskCache = false;
+
+    @Config.Comment("True to place ore blocks straight into chunk section storage when it doesn't change lighting and neither block has tile entity. False places every ore block through World.setBlockState. Default: true")
+    public static boolean oreVeinDirectPlacement = true;
+
     @Config.Comment("True to enable surface rocks indicating vein under them")
     public static boolean enableOreVeinSurfaceRocks = true;
 
@@ -37,6 +48,25 @@ public class ConfigHolder {
     @Config.Comment("Whether machines should explode when overloaded with power. Default: true")
     public static boolean doExplosions = true;
 
+    @Config.RangeInt(min = 0)
+    @Config.Comment("Amount of ticks idle machine waits before searching recipe again if it's inputs were not changed since last unsuccessful search. 0 disables this cache. Default: 100")
+    public static int recipeSearchBackoffTicks = 100;
+
+    @Config.Comment("Dimension ids in which cable networks route energy through paths with lowest loss instead of first found ones. Default: none")
+    public static int[] lowestLossCableRoutingDimensions = new int[0];
+
+    @Config.RangeInt(min = 0)
+    @Config.Comment("Multiblocks re-check their structure when block inside it changes. This is an interval in ticks of additional periodic re-check, catching changes made without block updates. 0 disables periodic re-check. Default: 1200")
+    public static int multiblockStructureRecheckInterval = 1200;
+
+    @Config.RangeInt(min = 1)
+    @Config.Comment("Minimum interval in ticks between syncs of frequently changing machine values, like stored energy, to clients which aren't watching the machine. Default: 20")
+    public static int machineValueSyncInterval = 20;
+
+    @Config.RangeInt(min = 0, max = 100)
+    @Config.Comment("Change of frequently changing machine value in percents of it's range, which is synced to clients immediately even if they aren't watching the machine. Default: 10")
+    public static int machineValueSyncThreshold = 10;
+
     @Config.Comment("Energy use multiplier for electric items. Default: 100")
     public static int energyUsageMultiplier = 100;
 
@@ -1,9 +1,13 @@
 package gregtech.common;
 
 import gregtech.api.GTValues;
+import gregtech.api.metatileentity.multiblock.MultiblockStructureTracker;
 import gregtech.api.unification.OreDictUnifier;
+import gregtech.api.worldgen.generator.CachedGridEntry;
+import gregtech.api.worldgen.generator.GridEntryPregenerator;
 import net.minecraft.entity.item.EntityItem;
 import net.minecraft.entity.monster.EntityEnderman;
+import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.init.Items;
 import net.minecraft.init.MobEffects;
 import net.minecraft.item.ItemStack;
@@ -12,9 +16,12 @@ import net.minecraftforge.common.config.ConfigManager;
 import net.minecraftforge.event.entity.EntityJoinWorldEvent;
 import net.minecraftforge.event.entity.living.EnderTeleportEvent;
 import net.minecraftforge.event.entity.player.PlayerInteractEvent;
+import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.fml.client.event.ConfigChangedEvent;
 import net.minecraftforge.fml.common.Mod;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent.Phase;
 
 @Mod.EventBusSubscriber
 public class EventHandlers {
@@ -43,6 +50,21 @@ public class EventHandlers {
 		}
 	}
 
+    @SubscribeEvent
+    public static void onWorldUnload(WorldEvent.Unload event) {
+        if (!event.getWorld().isRemote) {
+            MultiblockStructureTracker.onWorldUnload(event.getWorld());
+            CachedGridEntry.onWorldUnload(event.getWorld());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onPlayerTick(TickEvent.PlayerTickEvent event) {
+        if (event.phase == Phase.END && event.player instanceof EntityPlayerMP) {
+            GridEntryPregenerator.onPlayerTick((EntityPlayerMP) event.player);
+        }
+    }
+
     @SubscribeEvent
     public void onConfigChangedEvent(ConfigChangedEvent.OnConfigChangedEvent event) {
         if (event.getModID().equals(GTValues.MODID)) {
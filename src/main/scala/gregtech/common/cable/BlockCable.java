@@ -352,6 +352,7 @@ public class BlockCable extends Block implements ITileEntityProvider {
         boolean hasCapability = hasEnergyCapabilities(worldIn, pos);
         EnergyNet energyNet = WorldENet.getWorldENet(worldIn).getNetFromPos(pos);
         if(energyNet != null) {
+            energyNet.onNodeNeighbourChanged(pos);
             if(hasCapability) {
                 energyNet.markNodeAsActive(pos);
             } else {
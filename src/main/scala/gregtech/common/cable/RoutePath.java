@@ -1,5 +1,6 @@
 package gregtech.common.cable;
 
+import gregtech.common.cable.net.RouteTree;
 import gregtech.common.cable.tile.TileEntityCable;
 import net.minecraft.init.Blocks;
 import net.minecraft.tileentity.TileEntity;
@@ -8,44 +9,43 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldServer;
 
-import java.util.HashMap;
-
+/**
+ * Route from energy network node to one of it's destinations.<p>
+ *
+ * Route doesn't store cables it passes through, they are walked on demand
+ * through parent pointers of the {@link RouteTree} which created it,
+ * so routes to different destinations share their common prefix.
+ */
 public class RoutePath {
 
-    public BlockPos destination;
-    public HashMap<BlockPos, WireProperties> path = new HashMap<>();
-    public int minAmperage = Integer.MAX_VALUE;
-    public int minVoltage = Integer.MAX_VALUE;
-    public int totalLoss;
+    public final BlockPos destination;
+    public final int minAmperage;
+    public final int minVoltage;
+    public final int totalLoss;
+    private final RouteTree routeTree;
 
-    public RoutePath cloneAndCompute(BlockPos destination) {
-        RoutePath newPath = new RoutePath();
-        newPath.path = new HashMap<>(path);
-        newPath.destination = destination;
-        for(WireProperties wireProperties : path.values()) {
-            newPath.minAmperage = Math.min(newPath.minAmperage, wireProperties.amperage);
-            newPath.minVoltage = Math.min(newPath.minVoltage, wireProperties.voltage);
-            newPath.totalLoss += wireProperties.lossPerBlock;
-        }
-        return newPath;
+    public RoutePath(RouteTree routeTree, BlockPos destination, int minVoltage, int minAmperage, int totalLoss) {
+        this.routeTree = routeTree;
+        this.destination = destination;
+        this.minVoltage = minVoltage;
+        this.minAmperage = minAmperage;
+        this.totalLoss = totalLoss;
     }
 
     public boolean burnCablesInPath(World world, long voltage, long amperage) {
         if(minVoltage >= voltage && minAmperage >= amperage)
             return false;
-        for(BlockPos blockPos : path.keySet()) {
-            WireProperties wireProperties = path.get(blockPos);
-            if(voltage > wireProperties.voltage || amperage > wireProperties.amperage) {
-                TileEntity tileEntity = world.getTileEntity(blockPos);
-                if(!world.isRemote) {
-                    ((WorldServer) world).spawnParticle(EnumParticleTypes.SMOKE_LARGE,
-                        blockPos.getX() + 0.5, blockPos.getY() + 0.5, blockPos.getZ() + 0.5,
-                        5 + world.rand.nextInt(3), 0.0, 0.0, 0.0, 0.1);
-                }
-                if(tileEntity instanceof TileEntityCable) {
-                    world.setBlockToAir(blockPos);
-                    world.setBlockState(blockPos, Blocks.FIRE.getDefaultState());
-                }
+        //collect cables first, because burning them changes route tree
+        for(BlockPos blockPos : routeTree.getOverloadedCables(destination, voltage, amperage)) {
+            TileEntity tileEntity = world.getTileEntity(blockPos);
+            if(!world.isRemote) {
+                ((WorldServer) world).spawnParticle(EnumParticleTypes.SMOKE_LARGE,
+                    blockPos.getX() + 0.5, blockPos.getY() + 0.5, blockPos.getZ() + 0.5,
+                    5 + world.rand.nextInt(3), 0.0, 0.0, 0.0, 0.1);
+            }
+            if(tileEntity instanceof TileEntityCable) {
+                world.setBlockToAir(blockPos);
+                world.setBlockState(blockPos, Blocks.FIRE.getDefaultState());
             }
         }
         return true;
@@ -1,6 +1,21 @@
 package gregtech.common.cable.net;
 
-import gregtech.common.cable.RoutePath;
+import gnu.trove.impl.Constants;
+import gnu.trove.iterator.TLongIntIterator;
+import gnu.trove.iterator.TLongIterator;
+import gnu.trove.map.TIntIntMap;
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.TLongIntMap;
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.TObjectIntMap;
+import gnu.trove.map.hash.TIntIntHashMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
+import gnu.trove.map.hash.TLongIntHashMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
+import gnu.trove.map.hash.TObjectIntHashMap;
+import gnu.trove.set.TLongSet;
+import gnu.trove.set.hash.TLongHashSet;
+import gregtech.common.ConfigHolder;
 import gregtech.common.cable.WireProperties;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
@@ -10,37 +25,171 @@ import net.minecraft.util.math.BlockPos.MutableBlockPos;
 import net.minecraft.world.World;
 import net.minecraftforge.common.util.Constants.NBT;
 import net.minecraftforge.common.util.INBTSerializable;
+import org.apache.commons.lang3.ArrayUtils;
 
 import java.util.*;
-import java.util.Map.Entry;
 
 public class EnergyNet implements INBTSerializable<NBTTagCompound> {
 
+    /**
+     * Wire properties are shared between all networks and are referenced from node data
+     * by index, so node data can be copied between networks as is
+     */
+    private static final List<WireProperties> WIRE_PROPERTIES_PALETTE = new ArrayList<>();
+    private static final TObjectIntMap<WireProperties> WIRE_PROPERTIES_INDEXES = new TObjectIntHashMap<>(Constants.DEFAULT_CAPACITY, Constants.DEFAULT_LOAD_FACTOR, -1);
+
+    private static final int BLOCKED_CONNECTIONS_MASK = 0x3F;
+    private static final int PALETTE_INDEX_SHIFT = 6;
+
     private final WorldENet worldData;
-    private Map<BlockPos, WireProperties> allNodes = new HashMap<>();
-    private Map<BlockPos, Integer> blockedConnections = new HashMap<>();
-    private Set<BlockPos> activeNodes = new HashSet<>();
-    private long lastUpdatedTime;
+    //node position (packed with BlockPos.toLong) -> node data (wire properties palette index << 6 | blocked connections mask)
+    private TLongIntMap allNodes = createNodeMap();
+    private TLongSet activeNodes = new TLongHashSet();
+    //read-only views of node collections, created once so getters don't copy nodes
+    private final Map<BlockPos, WireProperties> allNodesView = new AbstractMap<BlockPos, WireProperties>() {
+        @Override
+        public int size() {
+            return allNodes.size();
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof BlockPos && allNodes.containsKey(((BlockPos) key).toLong());
+        }
+
+        @Override
+        public WireProperties get(Object key) {
+            return containsKey(key) ? getWireProperties(allNodes.get(((BlockPos) key).toLong())) : null;
+        }
+
+        @Override
+        public Set<Entry<BlockPos, WireProperties>> entrySet() {
+            return new AbstractSet<Entry<BlockPos, WireProperties>>() {
+                @Override
+                public int size() {
+                    return allNodes.size();
+                }
+
+                @Override
+                public Iterator<Entry<BlockPos, WireProperties>> iterator() {
+                    return createNodeEntryIterator();
+                }
+            };
+        }
+    };
+    private final Set<BlockPos> activeNodesView = new AbstractSet<BlockPos>() {
+        @Override
+        public int size() {
+            return activeNodes.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof BlockPos && activeNodes.contains(((BlockPos) o).toLong());
+        }
+
+        @Override
+        public Iterator<BlockPos> iterator() {
+            TLongIterator iterator = activeNodes.iterator();
+            return new Iterator<BlockPos>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public BlockPos next() {
+                    return BlockPos.fromLong(iterator.next());
+                }
+            };
+        }
+    };
+    //source node -> routes from it, updated incrementally on topology changes
+    private final TLongObjectMap<RouteTree> routeTrees = new TLongObjectHashMap<>();
+    private long version;
+    private final EnergyNetScheduler scheduler = new EnergyNetScheduler(this);
 
     public EnergyNet(WorldENet world) {
         this.worldData = world;
     }
 
-    private EnergyNet(WorldENet worldENet, Map<BlockPos, WireProperties> allNodesCopy, Map<BlockPos, Integer> blockedConnections, Set<BlockPos> activeNodes) {
+    private EnergyNet(WorldENet worldENet, TLongIntMap allNodesCopy, TLongSet activeNodes) {
         this.worldData = worldENet;
         this.allNodes = allNodesCopy;
-        this.activeNodes = new HashSet<>(activeNodes);
-        this.blockedConnections = new HashMap<>(blockedConnections);
-        this.blockedConnections.keySet().removeIf(p -> !allNodes.containsKey(p));
-        this.activeNodes.removeIf(p -> !allNodes.containsKey(p));
+        TLongIterator iterator = activeNodes.iterator();
+        while(iterator.hasNext()) {
+            long nodePos = iterator.next();
+            if(allNodes.containsKey(nodePos))
+                this.activeNodes.add(nodePos);
+        }
+    }
+
+    private static TLongIntMap createNodeMap() {
+        return new TLongIntHashMap(Constants.DEFAULT_CAPACITY, Constants.DEFAULT_LOAD_FACTOR, 0L, -1);
     }
 
+    private static int getPaletteIndex(WireProperties wireProperties) {
+        int paletteIndex = WIRE_PROPERTIES_INDEXES.get(wireProperties);
+        if(paletteIndex == -1) {
+            paletteIndex = WIRE_PROPERTIES_PALETTE.size();
+            WIRE_PROPERTIES_PALETTE.add(wireProperties);
+            WIRE_PROPERTIES_INDEXES.put(wireProperties, paletteIndex);
+        }
+        return paletteIndex;
+    }
+
+    private static WireProperties getWireProperties(int nodeData) {
+        return WIRE_PROPERTIES_PALETTE.get(nodeData >>> PALETTE_INDEX_SHIFT);
+    }
+
+    private static int makeNodeData(WireProperties wireProperties, int blockedConnectionsMask) {
+        return getPaletteIndex(wireProperties) << PALETTE_INDEX_SHIFT | (blockedConnectionsMask & BLOCKED_CONNECTIONS_MASK);
+    }
+
+    /**
+     * @return unmodifiable view of all nodes of this network and their wire properties
+     */
     public Map<BlockPos, WireProperties> getAllNodes() {
-        return Collections.unmodifiableMap(allNodes);
+        return allNodesView;
     }
 
+    /**
+     * @return unmodifiable view of active nodes of this network
+     */
     public Set<BlockPos> getActiveNodes() {
-        return Collections.unmodifiableSet(activeNodes);
+        return activeNodesView;
+    }
+
+    private Iterator<Map.Entry<BlockPos, WireProperties>> createNodeEntryIterator() {
+        TLongIntIterator iterator = allNodes.iterator();
+        return new Iterator<Map.Entry<BlockPos, WireProperties>>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public Map.Entry<BlockPos, WireProperties> next() {
+                iterator.advance();
+                return new AbstractMap.SimpleImmutableEntry<>(BlockPos.fromLong(iterator.key()), getWireProperties(iterator.value()));
+            }
+        };
+    }
+
+    TLongIntMap getNodeMap() {
+        return allNodes;
+    }
+
+    WireProperties getNodeWireProperties(long nodePos) {
+        return getWireProperties(allNodes.get(nodePos));
+    }
+
+    TLongSet getActiveNodeSet() {
+        return activeNodes;
+    }
+
+    boolean isNodeActive(long nodePos) {
+        return activeNodes.contains(nodePos);
     }
 
     public World getWorldData() {
@@ -48,14 +197,17 @@ public class EnergyNet implements INBTSerializable<NBTTagCompound> {
     }
 
     public void removeNode(BlockPos nodePos) {
-        if(allNodes.containsKey(nodePos)) {
-            activeNodes.remove(nodePos);
-            blockedConnections.remove(nodePos);
-            boolean needToUpdateRoutes = allNodes.remove(nodePos) != null;
+        long packedNodePos = nodePos.toLong();
+        if(allNodes.containsKey(packedNodePos)) {
+            activeNodes.remove(packedNodePos);
+            allNodes.remove(packedNodePos);
+            worldData.onNodeRemoved(this, nodePos);
+            boolean networkSplit = false;
+            MutableBlockPos offsetPos = new MutableBlockPos();
             int amountOfConnectedSides = 0;
-            for(EnumFacing facing : EnumFacing.values()) {
-                BlockPos offsetPos = nodePos.offset(facing);
-                if(allNodes.containsKey(offsetPos))
+            for(EnumFacing facing : EnumFacing.VALUES) {
+                offsetPos.setPos(nodePos).move(facing);
+                if(allNodes.containsKey(offsetPos.toLong()))
                     amountOfConnectedSides++;
             }
             //if we are connected only on one side or not connected at all, we don't need to find connected blocks
@@ -63,23 +215,22 @@ public class EnergyNet implements INBTSerializable<NBTTagCompound> {
             //this saves a lot of performance in big networks, which are quite big to depth-first them fastly
             if(amountOfConnectedSides >= 2) {
                 for(EnumFacing facing : EnumFacing.VALUES) {
-                    BlockPos offsetPos = nodePos.offset(facing);
+                    offsetPos.setPos(nodePos).move(facing);
                     if(!containsNotBlocked(offsetPos, facing.getOpposite()))
                         continue;
-                    HashMap<BlockPos, WireProperties> thisENet = findAllConnectedBlocks(offsetPos);
-                    if(allNodes.equals(thisENet)) {
+                    TLongIntMap thisENet = findAllConnectedBlocks(offsetPos);
+                    if(allNodes.size() == thisENet.size()) {
                         //if cable on some direction contains all nodes of this network
                         //the network didn't change so keep it as is
                         break;
                     } else {
                         //and use them to create new network with caching active nodes set
-                        EnergyNet energyNet = new EnergyNet(worldData, thisENet, blockedConnections, activeNodes);
+                        EnergyNet energyNet = new EnergyNet(worldData, thisENet, activeNodes);
                         //remove blocks that aren't connected with this network
                         allNodes.keySet().removeAll(thisENet.keySet());
-                        blockedConnections.keySet().removeAll(thisENet.keySet());
                         activeNodes.removeAll(thisENet.keySet());
                         worldData.addEnergyNet(energyNet);
-                        needToUpdateRoutes = true;
+                        networkSplit = true;
                     }
                 }
             }
@@ -87,42 +238,72 @@ public class EnergyNet implements INBTSerializable<NBTTagCompound> {
                 //if this energy net is empty now, remove it
                 worldData.removeEnergyNet(this);
             }
-            if(needToUpdateRoutes) {
-                //update routes only if needed, since it's quite expensive operation too
-                lastUpdatedTime = System.currentTimeMillis();
+            if(networkSplit) {
+                //nodes were moved to other networks, so routes can't be updated incrementally
+                routeTrees.clear();
+            } else {
+                routeTrees.remove(packedNodePos);
+                routeTrees.retainEntries((sourcePos, routeTree) -> routeTree.onNodeRemoved(packedNodePos));
             }
+            this.version++;
             worldData.markDirty();
         }
     }
 
-    //used to update paths cache in TileEntityCable
-    public long getLastUpdatedTime() {
-        return lastUpdatedTime;
+    /**
+     * @return version of this network, incremented on every node or active node change.
+     * Used to invalidate routes cached outside of the network
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public EnergyNetScheduler getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Called when block adjacent to given node changes, so energy containers
+     * cached for that node are resolved again
+     */
+    public void onNodeNeighbourChanged(BlockPos nodePos) {
+        scheduler.invalidateReceivers(nodePos);
     }
 
     public boolean containsNode(BlockPos blockPos) {
-        return allNodes.containsKey(blockPos);
+        return allNodes.containsKey(blockPos.toLong());
     }
 
     public void addNode(BlockPos nodePos, WireProperties wireProperties, int blockedConnectionsMask) {
-        allNodes.put(nodePos, wireProperties);
-        blockedConnections.put(nodePos, blockedConnectionsMask);
+        long packedNodePos = nodePos.toLong();
+        allNodes.put(packedNodePos, makeNodeData(wireProperties, blockedConnectionsMask));
+        worldData.onNodeAdded(this, nodePos);
+        routeTrees.retainEntries((sourcePos, routeTree) -> routeTree.onNodeAdded(packedNodePos));
+        this.version++;
         worldData.markDirty();
     }
 
     public void markNodeAsActive(BlockPos nodePos) {
-        if(allNodes.containsKey(nodePos)) {
-            activeNodes.add(nodePos);
+        long packedNodePos = nodePos.toLong();
+        if(allNodes.containsKey(packedNodePos) && activeNodes.add(packedNodePos)) {
+            routeTrees.forEachValue(routeTree -> {
+                routeTree.onNodeActivated(packedNodePos);
+                return true;
+            });
+            this.version++;
             worldData.markDirty();
-            lastUpdatedTime = System.currentTimeMillis();
         }
     }
 
     public void markNodeAsInactive(BlockPos nodePos) {
-        if(allNodes.containsKey(nodePos)) {
-            activeNodes.remove(nodePos);
+        long packedNodePos = nodePos.toLong();
+        if(allNodes.containsKey(packedNodePos) && activeNodes.remove(packedNodePos)) {
+            routeTrees.forEachValue(routeTree -> {
+                routeTree.onNodeDeactivated(packedNodePos);
+                return true;
+            });
+            this.version++;
             worldData.markDirty();
-            lastUpdatedTime = System.currentTimeMillis();
         }
     }
 
@@ -130,63 +311,47 @@ public class EnergyNet implements INBTSerializable<NBTTagCompound> {
         worldData.removeEnergyNet(energyNet);
         allNodes.putAll(energyNet.allNodes);
         activeNodes.addAll(energyNet.activeNodes);
-        blockedConnections.putAll(energyNet.blockedConnections);
+        worldData.onNodesAdded(this, energyNet.allNodes.keySet());
+        routeTrees.clear();
+        this.version++;
         worldData.markDirty();
-        lastUpdatedTime = System.currentTimeMillis();
     }
 
     public boolean containsNotBlocked(BlockPos blockPos, EnumFacing fromSide) {
-        return allNodes.containsKey(blockPos) &&
-            (blockedConnections.get(blockPos) & 1 << fromSide.getIndex()) == 0;
+        int nodeData = allNodes.get(blockPos.toLong());
+        return nodeData != -1 && (nodeData & 1 << fromSide.getIndex()) == 0;
     }
 
-    public List<RoutePath> computePatches(BlockPos startPos) {
-        ArrayList<RoutePath> readyPaths = new ArrayList<>();
-        RoutePath currentPath = new RoutePath();
-        currentPath.path.put(startPos, allNodes.get(startPos));
-        readyPaths.add(currentPath.cloneAndCompute(startPos));
-        HashSet<BlockPos> observedSet = new HashSet<>();
-        observedSet.add(startPos);
-        MutableBlockPos currentPos = new MutableBlockPos(startPos);
-        Stack<EnumFacing> moveStack = new Stack<>();
-        main: while(true) {
-            for(EnumFacing facing : EnumFacing.VALUES) {
-                currentPos.move(facing);
-                if(containsNotBlocked(currentPos, facing.getOpposite()) && !observedSet.contains(currentPos)) {
-                    BlockPos immutablePos = currentPos.toImmutable();
-                    observedSet.add(immutablePos);
-                    moveStack.push(facing.getOpposite());
-                    currentPath.path.put(immutablePos, allNodes.get(immutablePos));
-                    if(activeNodes.contains(currentPos)) {
-                        //if we are on active node, this is end of our path
-                        RoutePath finalizedPath = currentPath.cloneAndCompute(immutablePos);
-                        readyPaths.add(finalizedPath);
-                    }
-                    continue main;
-                } else {
-                    currentPos.move(facing.getOpposite());
-                }
-            }
-            if(!moveStack.isEmpty()) {
-                currentPos.move(moveStack.pop());
-                //also remove already visited block from path
-                currentPath.path.remove(currentPos);
-            } else break;
+    /**
+     * @return tree of routes from given node to all active nodes of this network reachable from it
+     */
+    RouteTree getRouteTree(BlockPos sourcePos) {
+        long packedSourcePos = sourcePos.toLong();
+        RouteTree routeTree = routeTrees.get(packedSourcePos);
+        if(routeTree == null) {
+            routeTree = new RouteTree(this, sourcePos, isLowestLossRoutingEnabled());
+            routeTrees.put(packedSourcePos, routeTree);
         }
-        return readyPaths;
+        return routeTree;
+    }
+
+    private boolean isLowestLossRoutingEnabled() {
+        World world = getWorldData();
+        return world != null && ArrayUtils.contains(ConfigHolder.lowestLossCableRoutingDimensions, world.provider.getDimension());
     }
 
     //we need to search only this network
-    private HashMap<BlockPos, WireProperties> findAllConnectedBlocks(BlockPos startPos) {
-        HashMap<BlockPos, WireProperties> observedSet = new HashMap<>();
-        observedSet.put(startPos, allNodes.get(startPos));
+    private TLongIntMap findAllConnectedBlocks(BlockPos startPos) {
+        TLongIntMap observedSet = createNodeMap();
+        observedSet.put(startPos.toLong(), allNodes.get(startPos.toLong()));
         MutableBlockPos currentPos = new MutableBlockPos(startPos);
         Stack<EnumFacing> moveStack = new Stack<>();
         main: while(true) {
             for(EnumFacing facing : EnumFacing.VALUES) {
                 currentPos.move(facing);
-                if(containsNotBlocked(currentPos, facing.getOpposite()) && !observedSet.containsKey(currentPos)) {
-                    observedSet.put(currentPos.toImmutable(), allNodes.get(currentPos));
+                long packedPos = currentPos.toLong();
+                if(containsNotBlocked(currentPos, facing.getOpposite()) && !observedSet.containsKey(packedPos)) {
+                    observedSet.put(packedPos, allNodes.get(packedPos));
                     moveStack.push(facing.getOpposite());
                     continue main;
                 } else currentPos.move(facing.getOpposite());
@@ -201,51 +366,54 @@ public class EnergyNet implements INBTSerializable<NBTTagCompound> {
     @Override
     public NBTTagCompound serializeNBT() {
         NBTTagCompound compound = new NBTTagCompound();
-        compound.setTag("Nodes", serializeAllNodeList(allNodes, blockedConnections, activeNodes));
+        compound.setTag("Nodes", serializeAllNodeList(allNodes, activeNodes));
         return compound;
     }
 
     @Override
     public void deserializeNBT(NBTTagCompound nbt) {
-        Result result = deserializeAllNodeList(nbt.getCompoundTag("Nodes"));
-        this.allNodes = result.allNodes;
-        this.blockedConnections = result.blockedConnections;
-        this.activeNodes = result.activeNodes;
+        NBTTagCompound nodesTag = nbt.getCompoundTag("Nodes");
+        this.allNodes = createNodeMap();
+        this.activeNodes = new TLongHashSet();
+        deserializeAllNodeList(nodesTag, allNodes, activeNodes);
     }
 
-    private static NBTTagCompound serializeAllNodeList(Map<BlockPos, WireProperties> allNodes, Map<BlockPos, Integer> blockedConnections, Set<BlockPos> activeNodes) {
+    private static NBTTagCompound serializeAllNodeList(TLongIntMap allNodes, TLongSet activeNodes) {
         NBTTagCompound compound = new NBTTagCompound();
         NBTTagList allNodesList = new NBTTagList();
         NBTTagList wirePropertiesList = new NBTTagList();
-        HashMap<WireProperties, Integer> alreadyWritten = new HashMap<>();
+        //global palette index -> index written into this network's tag
+        TIntIntMap alreadyWritten = new TIntIntHashMap(Constants.DEFAULT_CAPACITY, Constants.DEFAULT_LOAD_FACTOR, -1, -1);
         int currentIndex = 0;
 
-        for(Entry<BlockPos, WireProperties> entry : allNodes.entrySet()) {
-            BlockPos nodePos = entry.getKey();
-            WireProperties wireProperties = entry.getValue();
+        TLongIntIterator iterator = allNodes.iterator();
+        while(iterator.hasNext()) {
+            iterator.advance();
+            long packedNodePos = iterator.key();
+            int nodeData = iterator.value();
+            int paletteIndex = nodeData >>> PALETTE_INDEX_SHIFT;
+            BlockPos nodePos = BlockPos.fromLong(packedNodePos);
             NBTTagCompound nodeTag = new NBTTagCompound();
             nodeTag.setInteger("x", nodePos.getX());
             nodeTag.setInteger("y", nodePos.getY());
             nodeTag.setInteger("z", nodePos.getZ());
-            int wirePropertiesIndex = alreadyWritten.getOrDefault(wireProperties, -1);
+            int wirePropertiesIndex = alreadyWritten.get(paletteIndex);
             if(wirePropertiesIndex == -1) {
                 wirePropertiesIndex = currentIndex;
-                alreadyWritten.put(wireProperties, wirePropertiesIndex);
+                alreadyWritten.put(paletteIndex, wirePropertiesIndex);
                 currentIndex++;
             }
             nodeTag.setInteger("index", wirePropertiesIndex);
-            if(blockedConnections.containsKey(nodePos)) {
-                nodeTag.setInteger("blocked", blockedConnections.get(nodePos));
-            }
-            if(activeNodes.contains(nodePos)) {
+            nodeTag.setInteger("blocked", nodeData & BLOCKED_CONNECTIONS_MASK);
+            if(activeNodes.contains(packedNodePos)) {
                 nodeTag.setBoolean("active", true);
             }
             allNodesList.appendTag(nodeTag);
         }
 
-        for(Entry<WireProperties, Integer> entry : alreadyWritten.entrySet()) {
-            WireProperties wireProperties = entry.getKey();
-            int wirePropertiesIndex = entry.getValue();
+        for(int paletteIndex : alreadyWritten.keys()) {
+            WireProperties wireProperties = WIRE_PROPERTIES_PALETTE.get(paletteIndex);
+            int wirePropertiesIndex = alreadyWritten.get(paletteIndex);
             NBTTagCompound propertiesTag = new NBTTagCompound();
             propertiesTag.setInteger("index", wirePropertiesIndex);
             propertiesTag.setInteger("voltage", wireProperties.voltage);
@@ -259,25 +427,10 @@ public class EnergyNet implements INBTSerializable<NBTTagCompound> {
         return compound;
     }
 
-    private static class Result {
-        HashMap<BlockPos, WireProperties> allNodes;
-        HashMap<BlockPos, Integer> blockedConnections;
-        HashSet<BlockPos> activeNodes;
-
-        public Result(HashMap<BlockPos, WireProperties> allNodes, HashMap<BlockPos, Integer> blockedConnections, HashSet<BlockPos> activeNodes) {
-            this.allNodes = allNodes;
-            this.blockedConnections = blockedConnections;
-            this.activeNodes = activeNodes;
-        }
-    }
-
-    private static Result deserializeAllNodeList(NBTTagCompound compound) {
+    private static void deserializeAllNodeList(NBTTagCompound compound, TLongIntMap allNodes, TLongSet activeNodes) {
         NBTTagList allNodesList = compound.getTagList("NodeIndexes", NBT.TAG_COMPOUND);
         NBTTagList wirePropertiesList = compound.getTagList("WireProperties", NBT.TAG_COMPOUND);
-        HashMap<Integer, WireProperties> readProperties = new HashMap<>();
-        HashMap<BlockPos, WireProperties> allNodes = new HashMap<>();
-        HashMap<BlockPos, Integer> blockedConnections = new HashMap<>();
-        HashSet<BlockPos> activeNodes = new HashSet<>();
+        TIntObjectMap<WireProperties> readProperties = new TIntObjectHashMap<>();
 
         for(int i = 0; i < wirePropertiesList.tagCount(); i++) {
             NBTTagCompound propertiesTag = wirePropertiesList.getCompoundTagAt(i);
@@ -294,16 +447,12 @@ public class EnergyNet implements INBTSerializable<NBTTagCompound> {
             int y = nodeTag.getInteger("y");
             int z = nodeTag.getInteger("z");
             int wirePropertiesIndex = nodeTag.getInteger("index");
-            BlockPos blockPos = new BlockPos(x, y, z);
-            allNodes.put(blockPos, readProperties.get(wirePropertiesIndex));
-            blockedConnections.put(blockPos, nodeTag.getInteger("blocked"));
+            long packedNodePos = new BlockPos(x, y, z).toLong();
+            allNodes.put(packedNodePos, makeNodeData(readProperties.get(wirePropertiesIndex), nodeTag.getInteger("blocked")));
             if(nodeTag.getBoolean("active")) {
-                activeNodes.add(blockPos);
+                activeNodes.add(packedNodePos);
             }
         }
-
-        return new Result(allNodes, blockedConnections, activeNodes);
     }
 
-
 }
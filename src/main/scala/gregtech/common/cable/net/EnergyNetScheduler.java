@@ -0,0 +1,174 @@
+package gregtech.common.cable.net;
+
+import gnu.trove.iterator.TLongIterator;
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
+import gregtech.api.GTValues;
+import gregtech.api.capability.IEnergyContainer;
+import gregtech.common.cable.RoutePath;
+import gregtech.common.cable.tile.TileEntityCable;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.BlockPos.MutableBlockPos;
+import net.minecraft.world.World;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Dispatches energy emitted into network by all it's sources.<p>
+ *
+ * Energy is delivered to receivers synchronously, so emitters drain themselves by amount of amperes actually accepted.
+ * Receivers of all active nodes are kept in single list, and every offer looks up route to receiver
+ * in route tree of it's source node instead of walking all routes of that tree.
+ * Offers of the same tick share cursor into receivers list, which is moved past receivers without free capacity,
+ * so they aren't checked again by later offers during that tick, and dispatching costs roughly O(receivers + offers) per tick.
+ * Because of that receivers are served in order of the list, not nearest to emitter first,
+ * and receiver which frees capacity later during the tick after cursor moved past it is served on the next tick.<p>
+ *
+ * Energy containers adjacent to active nodes are resolved once and cached until network
+ * topology changes, node neighbour changes or container tile entity is invalidated.
+ */
+public class EnergyNetScheduler {
+
+    private static final EnergyReceiver[] NO_RECEIVERS = new EnergyReceiver[0];
+
+    private final EnergyNet energyNet;
+    //active node position -> energy containers adjacent to it
+    private final TLongObjectMap<EnergyReceiver[]> nodeReceivers = new TLongObjectHashMap<>();
+    private long receiversVersion = -1L;
+    //receivers of all active nodes, rebuilt before next offer if marked dirty
+    private List<EnergyReceiver> receivers = Collections.emptyList();
+    private boolean receiversDirty = true;
+    //some nodes have neighbours in unloaded chunks, so receivers are collected again on the next tick
+    private boolean receiversIncomplete;
+
+    private World preparedWorld;
+    private long preparedTick = -1L;
+    //receivers before cursor had no free capacity during current tick
+    private int receiverCursor;
+
+    EnergyNetScheduler(EnergyNet energyNet) {
+        this.energyNet = energyNet;
+    }
+
+    /**
+     * Dispatches energy offered by emitter adjacent to given node,
+     * burning cables if route to receiver can't handle given voltage or amperage
+     * @return amount of amperes accepted by receivers
+     */
+    public long offerEnergy(BlockPos sourcePos, long voltage, long amperage) {
+        World world = energyNet.getWorldData();
+        prepareReceivers(world);
+        RouteTree routeTree = energyNet.getRouteTree(sourcePos);
+        long amperesAccepted = 0L;
+        for(int i = receiverCursor; i < receivers.size() && amperesAccepted < amperage; i++) {
+            EnergyReceiver receiver = receivers.get(i);
+            if(!receiver.isValid(world)) {
+                this.receiversDirty = true;
+                continue;
+            }
+            //receiver which can't accept single ULV ampere is considered full
+            if(!receiver.hasFreeCapacity(GTValues.V[GTValues.ULV])) {
+                if(i == receiverCursor) this.receiverCursor++;
+                continue;
+            }
+            RoutePath routePath = routeTree.getRoute(receiver.nodePos);
+            if(routePath == null || routePath.totalLoss >= voltage)
+                continue; //do not emit if receiver is unreachable or loss is too high
+            if(voltage > routePath.minVoltage || amperage > routePath.minAmperage) {
+                //if voltage or amperage is too big, burn cables down and break
+                routePath.burnCablesInPath(world, voltage, amperage);
+                break;
+            }
+            amperesAccepted += receiver.energyContainer.acceptEnergyFromNetwork(receiver.side,
+                voltage - routePath.totalLoss, amperage - amperesAccepted);
+        }
+        return amperesAccepted;
+    }
+
+    void invalidateReceivers(BlockPos nodePos) {
+        nodeReceivers.remove(nodePos.toLong());
+        this.receiversDirty = true;
+    }
+
+    private void prepareReceivers(World world) {
+        if(receiversVersion != energyNet.getVersion()) {
+            nodeReceivers.clear();
+            this.receiversVersion = energyNet.getVersion();
+            this.receiversDirty = true;
+        }
+        long currentTick = world.getTotalWorldTime();
+        if(preparedTick != currentTick || preparedWorld != world) {
+            this.preparedWorld = world;
+            this.preparedTick = currentTick;
+            this.receiverCursor = 0;
+            if(receiversIncomplete) {
+                this.receiversDirty = true;
+            }
+        }
+        if(receiversDirty) {
+            this.receiversDirty = false;
+            this.receiversIncomplete = false;
+            this.receivers = collectReceivers(world);
+            this.receiverCursor = 0;
+        }
+    }
+
+    private List<EnergyReceiver> collectReceivers(World world) {
+        List<EnergyReceiver> allReceivers = new ArrayList<>();
+        TLongIterator iterator = energyNet.getActiveNodeSet().iterator();
+        while(iterator.hasNext()) {
+            Collections.addAll(allReceivers, getNodeReceivers(world, iterator.next()));
+        }
+        return allReceivers;
+    }
+
+    private EnergyReceiver[] getNodeReceivers(World world, long nodePos) {
+        EnergyReceiver[] receivers = nodeReceivers.get(nodePos);
+        if(receivers != null) {
+            boolean allValid = true;
+            for(EnergyReceiver receiver : receivers) {
+                if(!receiver.isValid(world)) {
+                    allValid = false;
+                    break;
+                }
+            }
+            if(allValid) return receivers;
+        }
+        return resolveReceivers(world, nodePos);
+    }
+
+    private EnergyReceiver[] resolveReceivers(World world, long packedNodePos) {
+        List<EnergyReceiver> resolvedReceivers = new ArrayList<>();
+        boolean allNeighboursLoaded = true;
+        BlockPos nodePos = BlockPos.fromLong(packedNodePos);
+        MutableBlockPos blockPos = new MutableBlockPos();
+        for(EnumFacing facing : EnumFacing.VALUES) {
+            blockPos.setPos(nodePos).move(facing);
+            //do not allow cables to load chunks
+            if(!world.isBlockLoaded(blockPos)) {
+                allNeighboursLoaded = false;
+                continue;
+            }
+            TileEntity tileEntity = world.getTileEntity(blockPos);
+            if(tileEntity == null || tileEntity instanceof TileEntityCable) continue;
+            IEnergyContainer energyContainer = tileEntity.getCapability(IEnergyContainer.CAPABILITY_ENERGY_CONTAINER, null);
+            if(energyContainer == null) continue;
+            resolvedReceivers.add(new EnergyReceiver(tileEntity, energyContainer, facing.getOpposite(), packedNodePos));
+        }
+        EnergyReceiver[] receivers = resolvedReceivers.isEmpty() ? NO_RECEIVERS :
+            resolvedReceivers.toArray(new EnergyReceiver[0]);
+        //neighbour chunk loading doesn't notify cables, so resolve such nodes again next tick
+        if(allNeighboursLoaded) {
+            nodeReceivers.put(packedNodePos, receivers);
+        } else {
+            nodeReceivers.remove(packedNodePos);
+            this.receiversIncomplete = true;
+        }
+        return receivers;
+    }
+
+}
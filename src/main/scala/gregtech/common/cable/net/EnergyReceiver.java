@@ -0,0 +1,40 @@
+package gregtech.common.cable.net;
+
+import gregtech.api.capability.IEnergyContainer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.world.World;
+
+/**
+ * Energy container adjacent to active node of energy network, cached by {@link EnergyNetScheduler}
+ */
+class EnergyReceiver {
+
+    final TileEntity tileEntity;
+    final IEnergyContainer energyContainer;
+    final EnumFacing side;
+    //packed position of the node receiver is adjacent to
+    final long nodePos;
+
+    EnergyReceiver(TileEntity tileEntity, IEnergyContainer energyContainer, EnumFacing side, long nodePos) {
+        this.tileEntity = tileEntity;
+        this.energyContainer = energyContainer;
+        this.side = side;
+        this.nodePos = nodePos;
+    }
+
+    boolean isValid(World world) {
+        return !tileEntity.isInvalid() && world.isBlockLoaded(tileEntity.getPos());
+    }
+
+    /**
+     * Free capacity is read from container itself on every check, so energy accepted by container
+     * from any source, including other networks and adjacent generators, is taken into account
+     * @return true if container inputs energy from receiver side and has space for at least given amount of energy
+     */
+    boolean hasFreeCapacity(long minEnergy) {
+        return energyContainer.inputsEnergy(side) &&
+            energyContainer.getEnergyCapacity() - energyContainer.getEnergyStored() >= minEnergy;
+    }
+
+}
@@ -0,0 +1,278 @@
+package gregtech.common.cable.net;
+
+import gnu.trove.iterator.TLongIterator;
+import gnu.trove.list.array.TLongArrayList;
+import gnu.trove.map.TLongIntMap;
+import gnu.trove.map.TLongLongMap;
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.hash.TLongIntHashMap;
+import gnu.trove.map.hash.TLongLongHashMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
+import gnu.trove.set.TLongSet;
+import gnu.trove.set.hash.TLongHashSet;
+import gregtech.common.cable.RoutePath;
+import gregtech.common.cable.WireProperties;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.BlockPos.MutableBlockPos;
+
+import javax.annotation.Nullable;
+
+import java.util.*;
+import java.util.Map.Entry;
+
+/**
+ * Spanning tree of energy network nodes reachable from single source node,
+ * stored as parent pointers keyed by packed node positions.<p>
+ *
+ * Tree is updated incrementally when nodes are added or activated, so only routes
+ * affected by the change are created or removed. When node which has children in the tree is removed,
+ * tree cannot be updated incrementally and should be rebuilt by the owning network.<p>
+ *
+ * By default tree is built by depth-first walk, so route to every node is the first one found.
+ * In lowest loss mode tree is a shortest path tree by total loss, built using Dijkstra algorithm,
+ * and added nodes relax distances of nodes they provide a shorter route to.
+ */
+public class RouteTree {
+
+    private final EnergyNet energyNet;
+    private final long sourcePos;
+    private final boolean lowestLoss;
+    //node -> parent node, source node is mapped to itself
+    private final TLongLongMap parents = new TLongLongHashMap();
+    private final TLongIntMap childCounts = new TLongIntHashMap();
+    //node -> total loss of route to it, used only in lowest loss mode
+    private final TLongIntMap totalLosses = new TLongIntHashMap();
+
+    private final TLongObjectMap<RoutePath> routesByDestination = new TLongObjectHashMap<>();
+
+    public RouteTree(EnergyNet energyNet, BlockPos sourcePos, boolean lowestLoss) {
+        this.energyNet = energyNet;
+        this.sourcePos = sourcePos.toLong();
+        this.lowestLoss = lowestLoss;
+        this.parents.put(this.sourcePos, this.sourcePos);
+        addRoute(this.sourcePos);
+        if(lowestLoss) {
+            totalLosses.put(this.sourcePos, getLossPerBlock(this.sourcePos));
+            relaxFrom(this.sourcePos);
+        } else {
+            extendFrom(this.sourcePos);
+        }
+    }
+
+    /**
+     * @return route from source node to given active node, or null if node isn't reachable from source
+     */
+    @Nullable
+    public RoutePath getRoute(long destination) {
+        return routesByDestination.get(destination);
+    }
+
+    public boolean containsNode(long nodePos) {
+        return parents.containsKey(nodePos);
+    }
+
+    void onNodeActivated(long nodePos) {
+        if(nodePos != sourcePos && parents.containsKey(nodePos) && !routesByDestination.containsKey(nodePos)) {
+            addRoute(nodePos);
+        }
+    }
+
+    void onNodeDeactivated(long nodePos) {
+        if(nodePos != sourcePos) {
+            removeRoute(nodePos);
+        }
+    }
+
+    /**
+     * Attaches newly added node to the tree, along with nodes which became reachable through it
+     * @return false if tree cannot be updated incrementally and should be rebuilt
+     */
+    boolean onNodeAdded(long nodePos) {
+        if(parents.containsKey(nodePos))
+            return false;
+        BlockPos nodeBlockPos = BlockPos.fromLong(nodePos);
+        MutableBlockPos neighbourPos = new MutableBlockPos();
+        if(lowestLoss) {
+            attachWithLowestLoss(nodePos, nodeBlockPos, neighbourPos);
+            return true;
+        }
+        for(EnumFacing facing : EnumFacing.VALUES) {
+            long neighbourPackedPos = neighbourPos.setPos(nodeBlockPos).move(facing).toLong();
+            //we are entering added node from the neighbour, so it's blocked connections at this side matter
+            if(parents.containsKey(neighbourPackedPos) && energyNet.containsNotBlocked(nodeBlockPos, facing)) {
+                attachNode(nodePos, neighbourPackedPos);
+                extendFrom(nodePos);
+                break;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Detaches removed node from the tree
+     * @return false if tree cannot be updated incrementally and should be rebuilt
+     */
+    boolean onNodeRemoved(long nodePos) {
+        if(!parents.containsKey(nodePos))
+            return true;
+        if(nodePos == sourcePos || childCounts.get(nodePos) > 0)
+            return false;
+        long parentPos = parents.remove(nodePos);
+        childCounts.adjustValue(parentPos, -1);
+        totalLosses.remove(nodePos);
+        removeRoute(nodePos);
+        return true;
+    }
+
+    private void attachWithLowestLoss(long nodePos, BlockPos nodeBlockPos, MutableBlockPos neighbourPos) {
+        long bestParentPos = 0L;
+        int bestTotalLoss = Integer.MAX_VALUE;
+        for(EnumFacing facing : EnumFacing.VALUES) {
+            long neighbourPackedPos = neighbourPos.setPos(nodeBlockPos).move(facing).toLong();
+            if(totalLosses.containsKey(neighbourPackedPos) && energyNet.containsNotBlocked(nodeBlockPos, facing) &&
+                totalLosses.get(neighbourPackedPos) < bestTotalLoss) {
+                bestParentPos = neighbourPackedPos;
+                bestTotalLoss = totalLosses.get(neighbourPackedPos);
+            }
+        }
+        if(bestTotalLoss != Integer.MAX_VALUE) {
+            totalLosses.put(nodePos, bestTotalLoss + getLossPerBlock(nodePos));
+            attachNode(nodePos, bestParentPos);
+            //added node can provide shorter routes to nodes already in the tree
+            relaxFrom(nodePos);
+        }
+    }
+
+    /**
+     * Dijkstra relaxation starting from node which total loss has just been set.
+     * Loss per block is never negative, so node can't be relaxed by it's own descendant,
+     * and every node which route has changed is relaxed and gets it's route rebuilt
+     */
+    private void relaxFrom(long startPos) {
+        TreeMap<Integer, TLongArrayList> queue = new TreeMap<>();
+        queue.put(totalLosses.get(startPos), new TLongArrayList(new long[] {startPos}));
+        TLongSet changedNodes = new TLongHashSet();
+        MutableBlockPos currentPos = new MutableBlockPos();
+        while(!queue.isEmpty()) {
+            Entry<Integer, TLongArrayList> entry = queue.pollFirstEntry();
+            int totalLoss = entry.getKey();
+            TLongArrayList queuedNodes = entry.getValue();
+            for(int i = 0; i < queuedNodes.size(); i++) {
+                long queuedPos = queuedNodes.get(i);
+                if(totalLosses.get(queuedPos) != totalLoss)
+                    continue; //node was already relaxed with lower loss
+                BlockPos queuedBlockPos = BlockPos.fromLong(queuedPos);
+                for(EnumFacing facing : EnumFacing.VALUES) {
+                    currentPos.setPos(queuedBlockPos).move(facing);
+                    if(!energyNet.containsNotBlocked(currentPos, facing.getOpposite()))
+                        continue;
+                    long packedPos = currentPos.toLong();
+                    int newTotalLoss = totalLoss + getLossPerBlock(packedPos);
+                    if(totalLosses.containsKey(packedPos) && totalLosses.get(packedPos) <= newTotalLoss)
+                        continue;
+                    totalLosses.put(packedPos, newTotalLoss);
+                    if(parents.containsKey(packedPos)) {
+                        childCounts.adjustValue(parents.get(packedPos), -1);
+                        parents.put(packedPos, queuedPos);
+                        childCounts.adjustOrPutValue(queuedPos, 1, 1);
+                        changedNodes.add(packedPos);
+                    } else {
+                        attachNode(packedPos, queuedPos);
+                    }
+                    TLongArrayList sameLossNodes = queue.get(newTotalLoss);
+                    if(sameLossNodes == null) {
+                        sameLossNodes = new TLongArrayList();
+                        queue.put(newTotalLoss, sameLossNodes);
+                    }
+                    sameLossNodes.add(packedPos);
+                }
+            }
+        }
+        //rebuild routes after relaxation, when all parents are final
+        TLongIterator iterator = changedNodes.iterator();
+        while(iterator.hasNext()) {
+            long nodePos = iterator.next();
+            if(routesByDestination.containsKey(nodePos)) {
+                removeRoute(nodePos);
+                addRoute(nodePos);
+            }
+        }
+    }
+
+    private int getLossPerBlock(long nodePos) {
+        return energyNet.getNodeWireProperties(nodePos).lossPerBlock;
+    }
+
+    private void attachNode(long nodePos, long parentPos) {
+        parents.put(nodePos, parentPos);
+        childCounts.adjustOrPutValue(parentPos, 1, 1);
+        if(energyNet.isNodeActive(nodePos)) {
+            addRoute(nodePos);
+        }
+    }
+
+    //depth-first walk over nodes which aren't in the tree yet
+    private void extendFrom(long startPos) {
+        MutableBlockPos currentPos = new MutableBlockPos(BlockPos.fromLong(startPos));
+        Stack<EnumFacing> moveStack = new Stack<>();
+        main: while(true) {
+            long currentPackedPos = currentPos.toLong();
+            for(EnumFacing facing : EnumFacing.VALUES) {
+                currentPos.move(facing);
+                long packedPos = currentPos.toLong();
+                if(energyNet.containsNotBlocked(currentPos, facing.getOpposite()) && !parents.containsKey(packedPos)) {
+                    attachNode(packedPos, currentPackedPos);
+                    moveStack.push(facing.getOpposite());
+                    continue main;
+                } else {
+                    currentPos.move(facing.getOpposite());
+                }
+            }
+            if(!moveStack.isEmpty()) {
+                currentPos.move(moveStack.pop());
+            } else break;
+        }
+    }
+
+    /**
+     * Walks route from given destination to the source and collects cables which can't handle given voltage or amperage
+     * @return positions of overloaded cables, or empty list if route is no longer present in the tree
+     */
+    public List<BlockPos> getOverloadedCables(BlockPos destination, long voltage, long amperage) {
+        ArrayList<BlockPos> overloadedCables = new ArrayList<>();
+        long currentPos = destination.toLong();
+        //route can outlive the tree state it was created from, so stop at nodes which were removed
+        while(parents.containsKey(currentPos) && energyNet.getNodeMap().containsKey(currentPos)) {
+            WireProperties wireProperties = energyNet.getNodeWireProperties(currentPos);
+            if(voltage > wireProperties.voltage || amperage > wireProperties.amperage) {
+                overloadedCables.add(BlockPos.fromLong(currentPos));
+            }
+            if(currentPos == sourcePos) break;
+            currentPos = parents.get(currentPos);
+        }
+        return overloadedCables;
+    }
+
+    private void addRoute(long destination) {
+        int minVoltage = Integer.MAX_VALUE;
+        int minAmperage = Integer.MAX_VALUE;
+        int totalLoss = 0;
+        long currentPos = destination;
+        while(true) {
+            WireProperties wireProperties = energyNet.getNodeWireProperties(currentPos);
+            minVoltage = Math.min(minVoltage, wireProperties.voltage);
+            minAmperage = Math.min(minAmperage, wireProperties.amperage);
+            totalLoss += wireProperties.lossPerBlock;
+            if(currentPos == sourcePos) break;
+            currentPos = parents.get(currentPos);
+        }
+        RoutePath routePath = new RoutePath(this, BlockPos.fromLong(destination), minVoltage, minAmperage, totalLoss);
+        routesByDestination.put(destination, routePath);
+    }
+
+    private void removeRoute(long destination) {
+        routesByDestination.remove(destination);
+    }
+
+}
@@ -1,5 +1,9 @@
 package gregtech.common.cable.net;
 
+import gnu.trove.TLongCollection;
+import gnu.trove.iterator.TLongIterator;
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraft.util.math.BlockPos;
@@ -15,6 +19,8 @@ public class WorldENet extends WorldSavedData {
     private static final String DATA_ID = "gregtech.e_net";
     private World world;
     private List<EnergyNet> energyNets = new ArrayList<>();
+    //node position (packed with BlockPos.toLong) -> energy net containing it
+    private final TLongObjectMap<EnergyNet> netsByNodePos = new TLongObjectHashMap<>();
 
     public static WorldENet getWorldENet(World world) {
         WorldENet eNetWorldData = (WorldENet) world.loadData(WorldENet.class, DATA_ID);
@@ -35,30 +41,58 @@ public class WorldENet extends WorldSavedData {
     }
 
     public EnergyNet getNetFromPos(BlockPos blockPos) {
-        for(EnergyNet energyNet : energyNets) {
-            if(energyNet.containsNode(blockPos))
-                return energyNet;
-        }
-        return null;
+        return netsByNodePos.get(blockPos.toLong());
     }
 
     public void addEnergyNet(EnergyNet energyNet) {
         this.energyNets.add(energyNet);
+        onNodesAdded(energyNet, energyNet.getNodeMap().keySet());
     }
 
     public void removeEnergyNet(EnergyNet energyNet) {
         this.energyNets.remove(energyNet);
+        onNodesRemoved(energyNet, energyNet.getNodeMap().keySet());
+    }
+
+    void onNodeAdded(EnergyNet energyNet, BlockPos nodePos) {
+        netsByNodePos.put(nodePos.toLong(), energyNet);
+    }
+
+    void onNodesAdded(EnergyNet energyNet, TLongCollection nodePositions) {
+        TLongIterator iterator = nodePositions.iterator();
+        while(iterator.hasNext()) {
+            netsByNodePos.put(iterator.next(), energyNet);
+        }
+    }
+
+    void onNodeRemoved(EnergyNet energyNet, BlockPos nodePos) {
+        onNodeRemoved(energyNet, nodePos.toLong());
+    }
+
+    private void onNodeRemoved(EnergyNet energyNet, long packedPos) {
+        //do not remove node if it was already moved to another network
+        if(netsByNodePos.get(packedPos) == energyNet) {
+            netsByNodePos.remove(packedPos);
+        }
+    }
+
+    void onNodesRemoved(EnergyNet energyNet, TLongCollection nodePositions) {
+        TLongIterator iterator = nodePositions.iterator();
+        while(iterator.hasNext()) {
+            onNodeRemoved(energyNet, iterator.next());
+        }
     }
 
     @Override
     public void readFromNBT(NBTTagCompound nbt) {
         this.energyNets = new ArrayList<>();
+        this.netsByNodePos.clear();
         NBTTagList allEnergyNets = nbt.getTagList("EnergyNets", NBT.TAG_COMPOUND);
         for(int i = 0; i < allEnergyNets.tagCount(); i++) {
             NBTTagCompound eNetTag = allEnergyNets.getCompoundTagAt(i);
             EnergyNet eNet = new EnergyNet(this);
-            energyNets.add(eNet);
             eNet.deserializeNBT(eNetTag);
+            addEnergyNet(eNet);
         }
     }
 
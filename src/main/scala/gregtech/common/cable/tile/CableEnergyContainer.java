@@ -1,23 +1,14 @@
 package gregtech.common.cable.tile;
 
 import gregtech.common.cable.ICableTile;
-import gregtech.common.cable.RoutePath;
 import gregtech.api.capability.IEnergyContainer;
 import gregtech.common.cable.net.EnergyNet;
 import gregtech.common.cable.net.WorldENet;
-import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
-import net.minecraft.util.math.BlockPos;
-import net.minecraft.util.math.BlockPos.PooledMutableBlockPos;
-import net.minecraft.world.World;
-
-import java.util.List;
 
 public class CableEnergyContainer implements IEnergyContainer {
 
     private final ICableTile tileEntityCable;
-    private long lastCachedPathsTime;
-    private List<RoutePath> pathsCache;
 
     public CableEnergyContainer(ICableTile tileEntityCable) {
         this.tileEntityCable = tileEntityCable;
@@ -25,43 +16,8 @@ public class CableEnergyContainer implements IEnergyContainer {
 
     @Override
     public long acceptEnergyFromNetwork(EnumFacing side, long voltage, long amperage) {
-        List<RoutePath> paths = getPaths();
-        long amperesUsed = 0;
-        for(RoutePath routePath : paths) {
-            if(routePath.totalLoss >= voltage)
-                continue; //do not emit if loss is too high
-            if(voltage > routePath.minVoltage || amperage > routePath.minAmperage) {
-                //if voltage or amperage is too big, burn cables down and break
-                routePath.burnCablesInPath(tileEntityCable.getCableWorld(), voltage, amperage);
-                break;
-            }
-            amperesUsed += dispatchEnergyToNode(routePath.destination,
-                voltage - routePath.totalLoss, amperage - amperesUsed);
-            if(amperesUsed == amperage)
-                break; //do not continue if all amperes are exhausted
-        }
-        return amperesUsed;
-    }
-
-    private long dispatchEnergyToNode(BlockPos nodePos, long voltage, long amperage) {
-        long amperesUsed = 0L;
-        //use pooled mutable to avoid creating new objects every tick
-        World world = tileEntityCable.getCableWorld();
-        PooledMutableBlockPos blockPos = PooledMutableBlockPos.retain();
-        for(EnumFacing facing : EnumFacing.VALUES) {
-            blockPos.setPos(nodePos).move(facing);
-            //do not allow cables to load chunks
-            if(!world.isBlockLoaded(nodePos)) continue;
-            TileEntity tileEntity = world.getTileEntity(blockPos);
-            if(tileEntity == null || tileEntity instanceof TileEntityCable) continue;
-            IEnergyContainer energyContainer = tileEntity.getCapability(IEnergyContainer.CAPABILITY_ENERGY_CONTAINER, null);
-            if(energyContainer == null) continue;
-            amperesUsed += energyContainer.acceptEnergyFromNetwork(facing.getOpposite(), voltage, amperage - amperesUsed);
-            if(amperesUsed == amperage)
-                break;
-        }
-        blockPos.release();
-        return amperesUsed;
+        EnergyNet energyNet = getEnergyNet();
+        return energyNet.getScheduler().offerEnergy(tileEntityCable.getCablePos(), voltage, amperage);
     }
 
     @Override
@@ -102,19 +58,6 @@ public class CableEnergyContainer implements IEnergyContainer {
         return 0;
     }
 
-    private void recomputePaths(EnergyNet energyNet) {
-        this.lastCachedPathsTime = System.currentTimeMillis();
-        this.pathsCache = energyNet.computePatches(tileEntityCable.getCablePos());
-    }
-
-    private List<RoutePath> getPaths() {
-        EnergyNet energyNet = getEnergyNet();
-        if(pathsCache == null || energyNet.getLastUpdatedTime() > lastCachedPathsTime) {
-            recomputePaths(energyNet);
-        }
-        return pathsCache;
-    }
-
     private EnergyNet getEnergyNet() {
         WorldENet worldENet = WorldENet.getWorldENet(tileEntityCable.getCableWorld());
         return worldENet.getNetFromPos(tileEntityCable.getCablePos());
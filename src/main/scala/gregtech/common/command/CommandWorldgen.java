@@ -1,6 +1,8 @@
 package gregtech.common.command;
 
+import gregtech.common.command.worldgen.CommandWorldgenBench;
 import gregtech.common.command.worldgen.CommandWorldgenReload;
+import gregtech.common.command.worldgen.CommandWorldgenStats;
 import net.minecraft.command.ICommandSender;
 import net.minecraftforge.server.command.CommandTreeBase;
 
@@ -8,6 +10,8 @@ public class CommandWorldgen extends CommandTreeBase {
 
     public CommandWorldgen() {
         addSubcommand(new CommandWorldgenReload());
+        addSubcommand(new CommandWorldgenBench());
+        addSubcommand(new CommandWorldgenStats());
     }
 
     @Override
@@ -0,0 +1,107 @@
+package gregtech.common.command.worldgen;
+
+import gregtech.api.util.GTLog;
+import gregtech.api.worldgen.config.OreDepositDefinition;
+import gregtech.api.worldgen.config.WorldGenRegistry;
+import gregtech.api.worldgen.generator.WorldgenBenchmark;
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.Style;
+import net.minecraft.util.text.TextComponentTranslation;
+import net.minecraft.util.text.TextFormatting;
+import net.minecraft.world.World;
+import net.minecraft.world.biome.Biome;
+import net.minecraftforge.common.DimensionManager;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map.Entry;
+
+public class CommandWorldgenBench extends CommandBase {
+
+    @Override
+    public String getName() {
+        return "bench";
+    }
+
+    @Override
+    public String getUsage(ICommandSender sender) {
+        return "gregtech.command.worldgen.bench.usage";
+    }
+
+    @Override
+    public List<String> getTabCompletions(MinecraftServer server, ICommandSender sender, String[] args, @Nullable BlockPos targetPos) {
+        if(args.length == 3) {
+            return getListOfStringsMatchingLastWord(args, Biome.REGISTRY.getKeys());
+        }
+        return Collections.emptyList();
+    }
+
+    @Override
+    public void execute(MinecraftServer server, ICommandSender sender, String[] args) throws CommandException {
+        if(args.length < 1 || args.length > 4)
+            throw new WrongUsageException(getUsage(sender));
+        int gridCount = parseInt(args[0], 1, 1000);
+        World world = sender.getEntityWorld();
+        if(args.length >= 4) {
+            int dimension = parseInt(args[3]);
+            world = DimensionManager.getWorld(dimension);
+            if(world == null)
+                throw new CommandException("gregtech.command.worldgen.bench.unknown_dimension", dimension);
+        }
+        long worldSeed = args.length >= 2 ? parseLong(args[1]) : world.getSeed();
+        Biome biome;
+        if(args.length >= 3) {
+            biome = Biome.REGISTRY.getObject(new ResourceLocation(args[2]));
+            if(biome == null)
+                throw new CommandException("gregtech.command.worldgen.bench.unknown_biome", args[2]);
+        } else {
+            biome = world.getBiome(sender.getPosition());
+        }
+        //biome vein lists are cached lazily and aren't thread safe, so they are collected on server thread
+        List<Entry<Integer, OreDepositDefinition>> depositMap = new ArrayList<>(WorldGenRegistry.INSTANCE.getCachedBiomeVeins(world.provider, biome));
+        WorldgenBenchmark benchmark = new WorldgenBenchmark(worldSeed, depositMap, world.getActualHeight());
+        sender.sendMessage(new TextComponentTranslation("gregtech.command.worldgen.bench.started",
+            gridCount, biome.getRegistryName(), world.provider.getDimension(), worldSeed));
+        Thread benchmarkThread = new Thread(() -> {
+            try {
+                benchmark.run(gridCount);
+                server.addScheduledTask(() -> sendResults(sender, benchmark));
+            } catch (RuntimeException exception) {
+                GTLog.logger.error("Worldgen benchmark failed", exception);
+                server.addScheduledTask(() -> sender.sendMessage(new TextComponentTranslation("gregtech.command.worldgen.bench.failed")
+                    .setStyle(new Style().setColor(TextFormatting.RED))));
+            }
+        }, "GregTech Worldgen Benchmark");
+        benchmarkThread.setDaemon(true);
+        benchmarkThread.start();
+    }
+
+    private static void sendResults(ICommandSender sender, WorldgenBenchmark benchmark) {
+        sender.sendMessage(new TextComponentTranslation("gregtech.command.worldgen.bench.result",
+            benchmark.getGeneratedEntries(), benchmark.getGeneratedVeins(), benchmark.getRecordedBlocks(),
+            formatMillis(benchmark.getGenerationNanos()), benchmark.getBlocksPerSecond(), benchmark.getIndexPayloadBytesPerEntry())
+            .setStyle(new Style().setColor(TextFormatting.GREEN)));
+        sender.sendMessage(new TextComponentTranslation("gregtech.command.worldgen.bench.selection",
+            formatMillis(benchmark.getSelectionNanos())));
+        for(String shapeName : benchmark.getRasterizationNanos().keySet()) {
+            sender.sendMessage(new TextComponentTranslation("gregtech.command.worldgen.bench.rasterization", shapeName,
+                formatMillis(benchmark.getRasterizationNanos().get(shapeName)), benchmark.getRasterizedBlocks().get(shapeName)));
+        }
+        sender.sendMessage(new TextComponentTranslation("gregtech.command.worldgen.bench.recording",
+            formatMillis(benchmark.getRecordingNanos())));
+        sender.sendMessage(new TextComponentTranslation("gregtech.command.worldgen.bench.placement",
+            formatMillis(benchmark.getPlacementNanos())));
+    }
+
+    private static String formatMillis(long nanos) {
+        return String.format("%.2f", nanos / 1_000_000.0);
+    }
+}
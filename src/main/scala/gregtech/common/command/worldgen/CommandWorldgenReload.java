@@ -2,6 +2,7 @@ package gregtech.common.command.worldgen;
 
 import gregtech.api.util.GTLog;
 import gregtech.api.worldgen.config.WorldGenRegistry;
+import gregtech.api.worldgen.generator.CachedGridEntry;
 import net.minecraft.command.CommandBase;
 import net.minecraft.command.ICommandSender;
 import net.minecraft.server.MinecraftServer;
@@ -27,6 +28,7 @@ public class CommandWorldgenReload extends CommandBase {
     public void execute(MinecraftServer server, ICommandSender sender, String[] args) {
         try {
             WorldGenRegistry.INSTANCE.reinitializeRegisteredVeins();
+            CachedGridEntry.clearDiskCaches();
             sender.sendMessage(new TextComponentTranslation("gregtech.command.worldgen.reload.success")
                 .setStyle(new Style().setColor(TextFormatting.GREEN)));
         } catch (IOException | RuntimeException exception) {
@@ -0,0 +1,32 @@
+package gregtech.common.command.worldgen;
+
+import gregtech.api.worldgen.generator.CachedGridEntry.ChunkDataEntry;
+import gregtech.api.worldgen.generator.GridEntryDiskCache;
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.text.TextComponentTranslation;
+
+public class CommandWorldgenStats extends CommandBase {
+
+    @Override
+    public String getName() {
+        return "stats";
+    }
+
+    @Override
+    public String getUsage(ICommandSender sender) {
+        return "gregtech.command.worldgen.stats.usage";
+    }
+
+    @Override
+    public void execute(MinecraftServer server, ICommandSender sender, String[] args) {
+        long placedChunks = ChunkDataEntry.getPlacedChunks();
+        long placementNanos = ChunkDataEntry.getPlacementNanos();
+        sender.sendMessage(new TextComponentTranslation("gregtech.command.worldgen.stats.placement",
+            ChunkDataEntry.getPlacedBlocks(), placedChunks, String.format("%.2f", placementNanos / 1_000_000.0),
+            placedChunks == 0L ? 0L : placementNanos / 1000L / placedChunks));
+        sender.sendMessage(new TextComponentTranslation("gregtech.command.worldgen.stats.disk_cache",
+            GridEntryDiskCache.getCacheHits(), GridEntryDiskCache.getCacheMisses()));
+    }
+}
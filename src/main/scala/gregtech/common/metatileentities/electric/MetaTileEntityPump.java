@@ -17,6 +17,7 @@ import gregtech.api.metatileentity.MetaTileEntity;
 import gregtech.api.metatileentity.MetaTileEntityHolder;
 import gregtech.api.metatileentity.TieredMetaTileEntity;
 import gregtech.api.render.Textures;
+import gregtech.api.util.world.ChunkBlockReader;
 import net.minecraft.block.BlockLiquid;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.client.resources.I18n;
@@ -53,6 +54,7 @@ public class MetaTileEntityPump extends TieredMetaTileEntity {
     private Deque<BlockPos> blocksToCheck = new ArrayDeque<>();
     private boolean initializedQueue = false;
     private int pumpHeadY;
+    private final ChunkBlockReader blockReader = new ChunkBlockReader();
 
     public MetaTileEntityPump(String metaTileEntityId, int tier) {
         super(metaTileEntityId, tier);
@@ -159,7 +161,9 @@ public class MetaTileEntityPump extends TieredMetaTileEntity {
         BlockPos selfPos = getPos().down(pumpHeadY);
         if(!blocksToCheck.isEmpty()) {
             BlockPos checkPos = this.blocksToCheck.poll();
-            IBlockState blockHere = getWorld().getBlockState(checkPos);
+            IBlockState blockHere = blockReader.reset(getWorld()).getBlockState(checkPos);
+            //do not load chunks to scan them, blocks in unloaded chunks will be checked on next queue rebuild
+            if(blockHere == null) return;
             boolean shouldCheckNeighbours = isStraightInPumpRange(checkPos);
             if(blockHere.getBlock() instanceof BlockLiquid ||
                 blockHere.getBlock() instanceof IFluidBlock) {
@@ -14,6 +14,7 @@ import gregtech.api.metatileentity.multiblock.IMultiblockAbilityPart;
 import gregtech.api.metatileentity.multiblock.MultiblockAbility;
 import gregtech.api.render.Textures;
 import gregtech.api.unification.material.type.SolidMaterial;
+import gregtech.api.util.world.ChunkBlockReader;
 import gregtech.common.metatileentities.multi.electric.MetaTileEntityLargeTurbine;
 import gregtech.common.tools.ITurbineToolStats;
 import net.minecraft.block.state.IBlockState;
@@ -27,6 +28,7 @@ import net.minecraft.util.EnumFacing.Axis;
 import net.minecraft.util.EnumHand;
 import net.minecraft.util.NonNullList;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.BlockPos.MutableBlockPos;
 import net.minecraft.util.math.MathHelper;
 import net.minecraftforge.items.ItemStackHandler;
 
@@ -45,6 +47,7 @@ public class MetaTileEntityRotorHolder extends MetaTileEntityMultiblockPart impl
     private boolean isRotorLooping;
     private int rotorColor = -1;
     private boolean frontFaceFree;
+    private final ChunkBlockReader blockReader = new ChunkBlockReader();
 
     public MetaTileEntityRotorHolder(String metaTileEntityId, int tier, int maxSpeed) {
         super(metaTileEntityId, tier);
@@ -94,11 +97,14 @@ public class MetaTileEntityRotorHolder extends MetaTileEntityMultiblockPart impl
         EnumFacing facing = getFrontFacing();
         boolean permuteXZ = facing.getAxis() == Axis.Z;
         BlockPos centerPos = getPos().offset(facing);
+        blockReader.reset(getWorld());
+        MutableBlockPos blockPos = new MutableBlockPos();
         for(int x = -1; x < 2; x++) {
             for(int y = -1; y < 2; y++) {
-                BlockPos blockPos = centerPos.add(permuteXZ ? x : 0, y, permuteXZ ? 0 : x);
-                IBlockState blockState = getWorld().getBlockState(blockPos);
-                if(blockState.getBlock() != Blocks.AIR)
+                blockPos.setPos(centerPos).move(EnumFacing.UP, y).move(permuteXZ ? EnumFacing.EAST : EnumFacing.SOUTH, x);
+                IBlockState blockState = blockReader.getBlockState(blockPos);
+                //face in unloaded chunk can't be checked, consider it blocked
+                if(blockState == null || blockState.getBlock() != Blocks.AIR)
                     return false;
             }
         }